@@ -0,0 +1,87 @@
+package com.example.mass.bench;
+
+import com.example.mass.config.MassConfig;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigBenchmark {
+
+    // Resolved through the name-based categories (concrete, stairs, wool, ...) rather than
+    // an explicit table entry; this used to be the endsWith chain in resolveCategory.
+    private static final Material[] CATEGORISED = {
+        Material.RED_CONCRETE, Material.OAK_STAIRS, Material.WHITE_WOOL, Material.SPRUCE_FENCE_GATE,
+        Material.BIRCH_SIGN, Material.BRAIN_CORAL_FAN, Material.MUSIC_DISC_CAT, Material.OAK_SAPLING
+    };
+
+    private static final Material[] TABLED = {
+        Material.DIAMOND_CHESTPLATE, Material.IRON_PICKAXE, Material.NETHERITE_SWORD, Material.COBBLESTONE
+    };
+
+    private MassFixture fixture;
+    private MassConfig  config;
+    private double[]    samples;
+    private int         previousTier;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = MassFixture.boot();
+        config  = fixture.plugin.massConfig();
+        samples = new double[64];
+        for (int i = 0; i < samples.length; i++) samples[i] = i * 0.75;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.shutdown();
+    }
+
+    @Benchmark
+    public void weightOfCategorised(Blackhole bh) {
+        for (Material m : CATEGORISED) bh.consume(config.weightOf(m));
+    }
+
+    @Benchmark
+    public void weightOfTabled(Blackhole bh) {
+        for (Material m : TABLED) bh.consume(config.weightOf(m));
+    }
+
+    @Benchmark
+    public void resolveTier(Blackhole bh) {
+        for (double w : samples) bh.consume(config.resolveTier(w));
+    }
+
+    @Benchmark
+    public void resolveTierHysteresis(Blackhole bh) {
+        for (double w : samples) {
+            previousTier = config.resolveTierIndex(w, previousTier);
+            bh.consume(previousTier);
+        }
+    }
+
+    // Full load-time compile of the bundled config.yml
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public MassConfig compile() {
+        return new MassConfig(fixture.plugin.getConfig(), fixture.plugin.getLogger());
+    }
+}
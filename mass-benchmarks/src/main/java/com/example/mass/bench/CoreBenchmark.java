@@ -0,0 +1,107 @@
+package com.example.mass.bench;
+
+import com.example.mass.core.ItemKeys;
+import com.example.mass.core.LighteningTable;
+import com.example.mass.core.PenaltyTier;
+import com.example.mass.core.TierTable;
+import com.example.mass.core.WeightEngine;
+import com.example.mass.core.WeightTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Headless: runs against mass-core alone with a synthetic item registry, no server involved
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoreBenchmark {
+
+    private static final String[] PREFIXES = {
+        "OAK", "SPRUCE", "BIRCH", "STONE", "IRON", "GOLDEN", "DIAMOND", "NETHERITE", "RED", "WHITE"
+    };
+    private static final String[] SUFFIXES = {
+        "PLANKS", "STAIRS", "SLAB", "FENCE", "WOOL", "CONCRETE", "HELMET", "CHESTPLATE",
+        "LEGGINGS", "BOOTS", "PICKAXE", "SWORD", "DOOR", "SIGN", "BANNER", "INGOT"
+    };
+
+    private ItemKeys     keys;
+    private WeightEngine engine;
+    private int[]        inventory;
+    private int[]        levels;
+    private double[]     samples;
+    private int          previousTier;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> names = new ArrayList<>();
+        for (String prefix : PREFIXES)
+            for (String suffix : SUFFIXES) names.add(prefix + "_" + suffix);
+        keys = new ItemKeys(names.toArray(new String[0]));
+
+        engine = new WeightEngine(keys,
+                WeightTable.compile(keys,
+                        Map.of("DIAMOND_CHESTPLATE", 8.0, "IRON_INGOT", 0.4, "NETHERITE_HELMET", 7.5),
+                        Map.of("stairs", 0.22, "slab", 0.15, "wool", 0.20, "concrete", 0.28),
+                        0.05),
+                new LighteningTable(Map.of(1, 0.30, 2, 0.45, 3, 0.60)),
+                new TierTable(List.of(
+                        new PenaltyTier(6.0, 1.0, 1.0),
+                        new PenaltyTier(12.0, 0.92, 0.92),
+                        new PenaltyTier(20.0, 0.80, 0.78),
+                        new PenaltyTier(28.0, 0.62, 0.45),
+                        new PenaltyTier(9999.0, 0.45, 0.0)), 0.5));
+
+        SplittableRandom rng = new SplittableRandom(42);
+        inventory = new int[41];
+        levels    = new int[41];
+        for (int i = 0; i < inventory.length; i++) {
+            inventory[i] = rng.nextInt(keys.size());
+            levels[i]    = rng.nextInt(4);
+        }
+        samples = new double[64];
+        for (int i = 0; i < samples.length; i++) samples[i] = i * 0.75;
+    }
+
+    // One full 41-slot inventory total on primitive ids
+    @Benchmark
+    public double inventoryTotal() {
+        double total = 0;
+        for (int i = 0; i < inventory.length; i++) {
+            int id = inventory[i];
+            total += engine.effectiveWeight(id, engine.weightOf(id), levels[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void resolveTier(Blackhole bh) {
+        for (double w : samples) {
+            previousTier = engine.tiers().resolveIndex(w, previousTier);
+            bh.consume(previousTier);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public WeightTable compileTable() {
+        return WeightTable.compile(keys, Map.of(), Map.of("stairs", 0.22, "slab", 0.15), 0.05);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.mass.bench;
+
+// Inventory layouts the benchmarks run against
+public enum InventoryKind {
+    EMPTY,
+    STACKABLES,
+    ENCHANTED_GEAR,
+    CUSTOM_PDC
+}
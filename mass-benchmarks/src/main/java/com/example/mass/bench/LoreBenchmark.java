@@ -0,0 +1,79 @@
+package com.example.mass.bench;
+
+import com.example.mass.service.LoreService;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoreBenchmark {
+
+    @Param({"STACKABLES", "ENCHANTED_GEAR", "CUSTOM_PDC"})
+    public InventoryKind inventory;
+
+    private MassFixture fixture;
+    private LoreService lore;
+    private ItemStack[] current;
+    private ItemStack[] templates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = MassFixture.boot();
+        lore    = fixture.plugin.loreService();
+
+        PlayerMock player = fixture.player(inventory);
+        templates = MassFixture.items(player.getInventory());
+        current   = new ItemStack[templates.length];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = templates[i].clone();
+            current[i]   = templates[i].clone();
+            lore.updateLore(current[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.shutdown();
+    }
+
+    // Lore already matches: the common case on clicks, pickups and inventory close
+    @Benchmark
+    public void updateLoreCurrent(Blackhole bh) {
+        for (ItemStack item : current) bh.consume(lore.updateLore(item));
+    }
+
+    // Item without lore, so every call renders and writes; includes the clone below
+    @Benchmark
+    public void updateLoreRewrite(Blackhole bh) {
+        for (ItemStack template : templates) {
+            ItemStack item = template.clone();
+            bh.consume(lore.updateLore(item));
+        }
+    }
+
+    // Baseline for updateLoreRewrite
+    @Benchmark
+    public void cloneOnly(Blackhole bh) {
+        for (ItemStack template : templates) bh.consume(template.clone());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.mass.bench;
+
+import com.example.mass.MassPlugin;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Boots a MockBukkit server with Mass enabled and builds players with realistic inventories.
+// Each JMH fork gets its own server; call shutdown from the trial teardown.
+final class MassFixture {
+
+    private static final Material[] STACKABLES = {
+        Material.COBBLESTONE, Material.OAK_PLANKS, Material.IRON_INGOT, Material.COOKED_BEEF,
+        Material.OAK_SLAB, Material.WHITE_WOOL, Material.STONE_BRICK_STAIRS, Material.RED_CONCRETE,
+        Material.GLASS_PANE, Material.TORCH, Material.ARROW, Material.WHEAT_SEEDS
+    };
+
+    private static final Material[] TOOLS = {
+        Material.DIAMOND_PICKAXE, Material.DIAMOND_SWORD, Material.NETHERITE_AXE,
+        Material.IRON_SHOVEL, Material.BOW, Material.TRIDENT
+    };
+
+    private static final Material[] ARMOR = {
+        Material.DIAMOND_BOOTS, Material.NETHERITE_LEGGINGS,
+        Material.DIAMOND_CHESTPLATE, Material.NETHERITE_HELMET
+    };
+
+    final ServerMock server;
+    final MassPlugin plugin;
+
+    private MassFixture(ServerMock server, MassPlugin plugin) {
+        this.server = server;
+        this.plugin = plugin;
+    }
+
+    static MassFixture boot() {
+        ServerMock server = MockBukkit.mock();
+        MassPlugin plugin = MockBukkit.load(MassPlugin.class);
+        return new MassFixture(server, plugin);
+    }
+
+    void shutdown() {
+        MockBukkit.unmock();
+    }
+
+    PlayerMock player(InventoryKind kind) {
+        PlayerMock player = server.addPlayer();
+        fill(player.getInventory(), kind);
+        return player;
+    }
+
+    // Non-empty stacks from storage, armour and offhand, in slot order
+    static ItemStack[] items(PlayerInventory inv) {
+        List<ItemStack> items = new ArrayList<>();
+        for (int slot = 0; slot <= 40; slot++) {
+            ItemStack item = inv.getItem(slot);
+            if (item != null && item.getType() != Material.AIR) items.add(item);
+        }
+        return items.toArray(new ItemStack[0]);
+    }
+
+    private void fill(PlayerInventory inv, InventoryKind kind) {
+        inv.clear();
+        switch (kind) {
+            case EMPTY -> { }
+            case STACKABLES -> {
+                for (int slot = 0; slot < 36; slot++)
+                    inv.setItem(slot, new ItemStack(STACKABLES[slot % STACKABLES.length], 64));
+                inv.setItemInOffHand(new ItemStack(Material.TORCH, 64));
+            }
+            case ENCHANTED_GEAR, CUSTOM_PDC -> {
+                boolean custom = kind == InventoryKind.CUSTOM_PDC;
+                for (int slot = 0; slot < 36; slot++)
+                    inv.setItem(slot, gear(TOOLS[slot % TOOLS.length], Enchantment.EFFICIENCY, custom, slot));
+                for (int i = 0; i < ARMOR.length; i++)
+                    inv.setItem(36 + i, gear(ARMOR[i], Enchantment.PROTECTION, custom, 36 + i));
+                inv.setItemInOffHand(gear(Material.SHIELD, Enchantment.UNBREAKING, custom, 40));
+            }
+        }
+    }
+
+    private ItemStack gear(Material type, Enchantment enchantment, boolean customWeight, int slot) {
+        ItemStack item = new ItemStack(type);
+        item.addUnsafeEnchantment(enchantment, 4);
+        item.addUnsafeEnchantment(Enchantment.UNBREAKING, 3);
+        if (customWeight) plugin.weightService().setWeight(item, 0.25 * (slot % 8 + 1));
+        return item;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.mass.bench;
+
+import com.example.mass.service.EncumbranceService;
+import com.example.mass.service.WeightService;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeightBenchmark {
+
+    @Param({"EMPTY", "STACKABLES", "ENCHANTED_GEAR", "CUSTOM_PDC"})
+    public InventoryKind inventory;
+
+    private MassFixture        fixture;
+    private WeightService      weights;
+    private EncumbranceService encumbrance;
+    private PlayerMock         player;
+    private ItemStack[]        items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture     = MassFixture.boot();
+        weights     = fixture.plugin.weightService();
+        encumbrance = fixture.plugin.encumbranceService();
+        player      = fixture.player(inventory);
+        items       = MassFixture.items(player.getInventory());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.shutdown();
+    }
+
+    // Full rescan of armour, offhand and storage
+    @Benchmark
+    public double computeTotalWeight() {
+        return weights.computeTotalWeight(player);
+    }
+
+    // Ledger read used by sprint, jump, elytra and water checks
+    @Benchmark
+    public double ledgerTotal() {
+        return encumbrance.getTotalWeight(player);
+    }
+
+    @Benchmark
+    public void baseWeight(Blackhole bh) {
+        for (ItemStack item : items) bh.consume(weights.getBaseWeight(item));
+    }
+
+    @Benchmark
+    public void effectiveWeight(Blackhole bh) {
+        for (ItemStack item : items) bh.consume(weights.getEffectiveWeight(item));
+    }
+}
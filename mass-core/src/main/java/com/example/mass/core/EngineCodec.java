@@ -0,0 +1,69 @@
+package com.example.mass.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Binary form of a compiled engine's tables: weights per id, Lightening reductions per
+// level and the tier list. Item keys aren't stored; the reader supplies the registry the
+// table was compiled against and a size mismatch is rejected.
+public final class EngineCodec {
+
+    private static final int MAGIC   = 0x4D415353; // "MASS"
+    private static final int VERSION = 1;
+
+    private EngineCodec() {}
+
+    public static void write(DataOutput out, WeightEngine engine) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        double[] weights = engine.weights().toArray();
+        out.writeInt(weights.length);
+        for (double w : weights) out.writeDouble(w);
+
+        double[] reductions = engine.lightening().toArray();
+        out.writeInt(reductions.length);
+        for (double r : reductions) out.writeDouble(r);
+
+        TierTable tiers = engine.tiers();
+        out.writeInt(tiers.size());
+        for (PenaltyTier tier : tiers.tiers()) {
+            out.writeDouble(tier.maxWeight());
+            out.writeDouble(tier.speedMultiplier());
+            out.writeDouble(tier.jumpMultiplier());
+        }
+        out.writeDouble(tiers.hysteresis());
+    }
+
+    public static WeightEngine read(DataInput in, ItemKeys keys) throws IOException {
+        if (in.readInt() != MAGIC)   throw new IOException("not a compiled weight table");
+        if (in.readInt() != VERSION) throw new IOException("unsupported compiled table version");
+
+        int size = in.readInt();
+        if (size != keys.size()) throw new IOException("compiled for " + size + " items, registry has " + keys.size());
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) weights[i] = in.readDouble();
+
+        double[] reductions = new double[checkedLength(in.readInt())];
+        for (int i = 0; i < reductions.length; i++) reductions[i] = in.readDouble();
+
+        int tierCount = checkedLength(in.readInt());
+        if (tierCount == 0) throw new IOException("no tiers");
+        List<PenaltyTier> tiers = new ArrayList<>(tierCount);
+        for (int i = 0; i < tierCount; i++)
+            tiers.add(new PenaltyTier(in.readDouble(), in.readDouble(), in.readDouble()));
+        double hysteresis = in.readDouble();
+
+        return new WeightEngine(keys, WeightTable.of(weights), LighteningTable.of(reductions),
+                new TierTable(tiers, hysteresis));
+    }
+
+    // Guards against allocating from a corrupt length
+    private static int checkedLength(int length) throws IOException {
+        if (length < 0 || length > 4096) throw new IOException("bad length " + length);
+        return length;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.mass.core;
+
+// Name-based item grouping. Only consulted while compiling tables, never per lookup.
+public final class ItemCategories {
+
+    private ItemCategories() {}
+
+    // Category key for items without an explicit weight, or null for the fallback
+    public static String categoryOf(String name) {
+        if (name.endsWith("_CONCRETE_POWDER"))          return "concrete_powder";
+        if (name.endsWith("_CONCRETE"))                 return "concrete";
+        if (name.endsWith("_STAINED_GLASS_PANE")
+         || name.endsWith("_GLASS_PANE"))               return "glass_pane";
+        if (name.endsWith("_STAINED_GLASS"))            return "glass";
+        if (name.endsWith("_GLAZED_TERRACOTTA")
+         || (name.endsWith("_TERRACOTTA")
+             && !name.equals("TERRACOTTA")))            return "terracotta";
+        if (name.endsWith("_WOOL"))                     return "wool";
+        if (name.endsWith("_CARPET"))                   return "carpet";
+        if (name.endsWith("_HANGING_SIGN"))             return "hanging_sign";
+        if (name.endsWith("_SIGN"))                     return "sign";
+        if (name.endsWith("_FENCE_GATE"))               return "fence_gate";
+        if (name.endsWith("_FENCE"))                    return "fence";
+        if (name.endsWith("_STAIRS"))                   return "stairs";
+        if (name.endsWith("_SLAB"))                     return "slab";
+        if (name.endsWith("_WALL"))                     return "wall";
+        if (name.endsWith("_LEAVES"))                   return "leaves";
+        if (name.endsWith("_BED"))                      return "bed";
+        if (name.endsWith("_BANNER"))                   return "banner";
+        if (name.endsWith("_CANDLE"))                   return "candle";
+        if (name.endsWith("_TRAPDOOR"))                 return "trapdoor";
+        if (name.endsWith("_DOOR"))                     return "door";
+        if (name.endsWith("_PRESSURE_PLATE"))           return "pressure_plate";
+        if (name.endsWith("_BUTTON"))                   return "button";
+        if (name.endsWith("_SAPLING"))                  return "sapling";
+        if (name.endsWith("_CORAL_FAN"))                return "coral_fan";
+        if (name.endsWith("_CORAL_BLOCK"))              return "coral_block";
+        if (name.endsWith("_CORAL"))                    return "coral";
+        if (name.endsWith("_SPAWN_EGG"))                return "spawn_egg";
+        if (name.endsWith("_POTTERY_SHERD"))            return "pottery_sherd";
+        if (name.endsWith("_SMITHING_TEMPLATE"))        return "smithing_template";
+        if (name.startsWith("MUSIC_DISC_"))             return "music_disc";
+        if (name.endsWith("_SEEDS") || name.endsWith("_SEED")) return "seeds";
+        if (name.endsWith("_DYE"))                      return "dye";
+        return null;
+    }
+
+    public static boolean isArmour(String name) {
+        return name.endsWith("_HELMET")
+            || name.endsWith("_CHESTPLATE")
+            || name.endsWith("_LEGGINGS")
+            || name.endsWith("_BOOTS");
+    }
+}
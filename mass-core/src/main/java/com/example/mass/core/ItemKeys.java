@@ -0,0 +1,33 @@
+package com.example.mass.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Dense item ids for a fixed list of item names. The id is the index into the list, so an
+// adapter can hand in any enum-like registry (on Paper: Material ordinals) and every table
+// in the engine is a plain array indexed by that id.
+public final class ItemKeys {
+
+    private final String[] names;
+    private final Map<String, Integer> ids;
+
+    public ItemKeys(String[] names) {
+        this.names = names.clone();
+        this.ids   = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) ids.putIfAbsent(names[i], i);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    // Returns -1 for names that aren't in the registry
+    public int idOf(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.mass.core;
+
+import java.util.Arrays;
+import java.util.Map;
+
+// Fractional weight reduction per Lightening level; level 0 and unknown levels reduce nothing
+public final class LighteningTable {
+
+    private final double[] reductions;
+
+    public LighteningTable(Map<Integer, Double> reductions) {
+        int max = 0;
+        for (int level : reductions.keySet()) max = Math.max(max, level);
+        this.reductions = new double[max + 1];
+        for (Map.Entry<Integer, Double> e : reductions.entrySet())
+            if (e.getKey() > 0) this.reductions[e.getKey()] = e.getValue();
+    }
+
+    private LighteningTable(double[] reductions) {
+        this.reductions = reductions;
+    }
+
+    // Index is the level; index 0 is ignored
+    public static LighteningTable of(double[] reductions) {
+        double[] copy = reductions.clone();
+        if (copy.length > 0) copy[0] = 0.0;
+        return new LighteningTable(copy);
+    }
+
+    public double[] toArray() {
+        return reductions.clone();
+    }
+
+    public double reduction(int level) {
+        return level > 0 && level < reductions.length ? reductions[level] : 0.0;
+    }
+
+    public double apply(double base, int level) {
+        return base * (1.0 - reduction(level));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LighteningTable other && Arrays.equals(reductions, other.reductions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(reductions);
+    }
+}
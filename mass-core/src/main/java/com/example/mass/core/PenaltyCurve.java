@@ -0,0 +1,103 @@
+package com.example.mass.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// Speed and jump multipliers as a continuous function of weight. The curve through the
+// control points is sampled once into fixed-step tables of multipliers quantized to 1/1000,
+// so a lookup is one array read and nearby weights resolve to exactly the same value.
+public final class PenaltyCurve {
+
+    public enum Interpolation { LINEAR, SMOOTHSTEP }
+
+    private static final double QUANT       = 1000.0;
+    private static final int    MAX_SAMPLES = 1 << 16;
+
+    private final double  step;
+    private final double  inverseStep;
+    private final short[] speed;
+    private final short[] jump;
+
+    private PenaltyCurve(double step, short[] speed, short[] jump) {
+        this.step        = step;
+        this.inverseStep = 1.0 / step;
+        this.speed       = speed;
+        this.jump        = jump;
+    }
+
+    // Points are (maxWeight, speed, jump) like tiers; the curve is flat before the first
+    // and after the last point. resolution is the kg between samples.
+    public static PenaltyCurve sample(List<PenaltyTier> points, Interpolation interpolation, double resolution) {
+        if (points.isEmpty()) throw new IllegalArgumentException("at least one point is required");
+        List<PenaltyTier> sorted = new ArrayList<>(points);
+        sorted.sort(Comparator.comparingDouble(PenaltyTier::maxWeight));
+
+        double last = Math.max(0.0, sorted.get(sorted.size() - 1).maxWeight());
+        double step = Math.max(resolution > 0 ? resolution : 0.1, last / (MAX_SAMPLES - 1));
+        int size = (int) Math.ceil(last / step) + 1;
+
+        short[] speed = new short[size];
+        short[] jump  = new short[size];
+        int segment = 0;
+        for (int i = 0; i < size; i++) {
+            double w = i * step;
+            while (segment < sorted.size() - 1 && w > sorted.get(segment + 1).maxWeight()) segment++;
+            PenaltyTier a = sorted.get(segment);
+            PenaltyTier b = sorted.get(Math.min(segment + 1, sorted.size() - 1));
+            double t = a == b || w <= a.maxWeight() ? 0.0
+                     : Math.min(1.0, (w - a.maxWeight()) / (b.maxWeight() - a.maxWeight()));
+            if (interpolation == Interpolation.SMOOTHSTEP) t = t * t * (3.0 - 2.0 * t);
+            speed[i] = quantize(a.speedMultiplier() + (b.speedMultiplier() - a.speedMultiplier()) * t);
+            jump[i]  = quantize(a.jumpMultiplier()  + (b.jumpMultiplier()  - a.jumpMultiplier())  * t);
+        }
+        return new PenaltyCurve(step, speed, jump);
+    }
+
+    // Control points matching a step table: the curve reaches each tier's multipliers at the
+    // boundary where the steps would switch to that tier, starting from the first tier at 0 kg.
+    public static List<PenaltyTier> pointsFor(TierTable tiers) {
+        List<PenaltyTier> points = new ArrayList<>(tiers.size());
+        PenaltyTier first = tiers.get(0);
+        points.add(new PenaltyTier(0.0, first.speedMultiplier(), first.jumpMultiplier()));
+        for (int i = 1; i < tiers.size(); i++) {
+            PenaltyTier tier = tiers.get(i);
+            points.add(new PenaltyTier(tiers.get(i - 1).maxWeight(), tier.speedMultiplier(), tier.jumpMultiplier()));
+        }
+        return points;
+    }
+
+    public double speed(double weight) {
+        return speed[index(weight)] / QUANT;
+    }
+
+    public double jump(double weight) {
+        return jump[index(weight)] / QUANT;
+    }
+
+    public int size() {
+        return speed.length;
+    }
+
+    private int index(double weight) {
+        if (!(weight > 0.0)) return 0;
+        long i = (long) (weight * inverseStep + 0.5);
+        return i < speed.length ? (int) i : speed.length - 1;
+    }
+
+    private static short quantize(double multiplier) {
+        return (short) Math.round(Math.max(0.0, Math.min(Short.MAX_VALUE / QUANT, multiplier)) * QUANT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PenaltyCurve other && step == other.step
+                && Arrays.equals(speed, other.speed) && Arrays.equals(jump, other.jump);
+    }
+
+    @Override
+    public int hashCode() {
+        return (Double.hashCode(step) * 31 + Arrays.hashCode(speed)) * 31 + Arrays.hashCode(jump);
+    }
+}
@@ -0,0 +1,3 @@
+package com.example.mass.core;
+
+public record PenaltyTier(double maxWeight, double speedMultiplier, double jumpMultiplier) {}
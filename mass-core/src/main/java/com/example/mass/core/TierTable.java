@@ -0,0 +1,64 @@
+package com.example.mass.core;
+
+import java.util.List;
+
+// Ordered step tiers. The last tier catches everything above the previous boundary.
+public final class TierTable {
+
+    private final List<PenaltyTier> tiers;
+    private final double[]          maxWeights;
+    private final double            hysteresis;
+
+    public TierTable(List<PenaltyTier> tiers, double hysteresis) {
+        if (tiers.isEmpty()) throw new IllegalArgumentException("at least one tier is required");
+        this.tiers      = List.copyOf(tiers);
+        this.maxWeights = new double[tiers.size()];
+        for (int i = 0; i < maxWeights.length; i++) maxWeights[i] = tiers.get(i).maxWeight();
+        this.hysteresis = Math.max(0.0, hysteresis);
+    }
+
+    public List<PenaltyTier> tiers() {
+        return tiers;
+    }
+
+    public PenaltyTier get(int index) {
+        return tiers.get(index);
+    }
+
+    public int size() {
+        return maxWeights.length;
+    }
+
+    public double hysteresis() {
+        return hysteresis;
+    }
+
+    public int resolveIndex(double totalWeight) {
+        int last = maxWeights.length - 1;
+        for (int i = 0; i < last; i++)
+            if (totalWeight <= maxWeights[i]) return i;
+        return last;
+    }
+
+    // Like resolveIndex, but a player only leaves their current tier once the weight is
+    // more than the hysteresis band past the shared boundary, so hovering at a threshold doesn't flip.
+    public int resolveIndex(double totalWeight, int previous) {
+        int index = resolveIndex(totalWeight);
+        if (hysteresis <= 0 || previous < 0 || previous >= maxWeights.length || index == previous)
+            return index;
+        if (index > previous) {
+            return totalWeight > maxWeights[index - 1] + hysteresis ? index : index - 1;
+        }
+        return totalWeight <= maxWeights[index] - hysteresis ? index : index + 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TierTable other && hysteresis == other.hysteresis && tiers.equals(other.tiers);
+    }
+
+    @Override
+    public int hashCode() {
+        return tiers.hashCode() * 31 + Double.hashCode(hysteresis);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.mass.core;
+
+import java.util.BitSet;
+
+// Compiled weight rules for one item registry. Everything here works on primitive item ids
+// and is immutable once built, so it can be shared freely and used without a server.
+public final class WeightEngine {
+
+    private final ItemKeys        keys;
+    private final WeightTable     weights;
+    private final BitSet          armour;
+    private final LighteningTable lightening;
+    private final TierTable       tiers;
+
+    public WeightEngine(ItemKeys keys, WeightTable weights, LighteningTable lightening, TierTable tiers) {
+        this.keys       = keys;
+        this.weights    = weights;
+        this.lightening = lightening;
+        this.tiers      = tiers;
+        this.armour     = new BitSet(keys.size());
+        for (int id = 0; id < keys.size(); id++)
+            if (ItemCategories.isArmour(keys.name(id))) armour.set(id);
+    }
+
+    public ItemKeys keys()              { return keys; }
+    public WeightTable weights()        { return weights; }
+    public LighteningTable lightening() { return lightening; }
+    public TierTable tiers()            { return tiers; }
+
+    public double weightOf(int id) {
+        return weights.weightOf(id);
+    }
+
+    public boolean isArmour(int id) {
+        return armour.get(id);
+    }
+
+    // Lightening only lightens armour
+    public double effectiveWeight(int id, double base, int lighteningLevel) {
+        if (lighteningLevel <= 0 || !armour.get(id)) return base;
+        return lightening.apply(base, lighteningLevel);
+    }
+
+    public PenaltyTier resolveTier(double totalWeight) {
+        return tiers.get(tiers.resolveIndex(totalWeight));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.mass.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+
+// Per-item weight in kg, indexed by ItemKeys id
+public final class WeightTable {
+
+    private final double[] weights;
+
+    private WeightTable(double[] weights) {
+        this.weights = weights;
+    }
+
+    // Resolves every item once: explicit entries (overrides already merged over defaults),
+    // then categories, then the fallback.
+    public static WeightTable compile(ItemKeys keys, Map<String, Double> explicit,
+                                      Map<String, Double> categories, double fallback) {
+        double[] table = new double[keys.size()];
+        for (int id = 0; id < table.length; id++) {
+            String name = keys.name(id);
+            Double w = explicit.get(name);
+            if (w == null) {
+                String category = ItemCategories.categoryOf(name);
+                w = category != null ? categories.getOrDefault(category, fallback) : fallback;
+            }
+            table[id] = w;
+        }
+        return new WeightTable(table);
+    }
+
+    public static WeightTable of(double[] weights) {
+        return new WeightTable(weights.clone());
+    }
+
+    // Copy with the named items set to new weights; names not in the registry are skipped
+    public WeightTable withOverrides(ItemKeys keys, Map<String, Double> overrides) {
+        double[] table = weights.clone();
+        for (Map.Entry<String, Double> e : overrides.entrySet()) {
+            int id = keys.idOf(e.getKey());
+            if (id >= 0 && id < table.length) table[id] = e.getValue();
+        }
+        return new WeightTable(table);
+    }
+
+    public double weightOf(int id) {
+        return weights[id];
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    // Ids whose weight differs between the two tables; ids past the shorter table count as changed
+    public BitSet diff(WeightTable other) {
+        BitSet changed = new BitSet(Math.max(weights.length, other.weights.length));
+        int shared = Math.min(weights.length, other.weights.length);
+        for (int id = 0; id < shared; id++)
+            if (Double.compare(weights[id], other.weights[id]) != 0) changed.set(id);
+        changed.set(shared, Math.max(weights.length, other.weights.length));
+        return changed;
+    }
+
+    public double[] toArray() {
+        return weights.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeightTable other && Arrays.equals(weights, other.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.mass.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EngineCodecTest {
+
+    private static final ItemKeys KEYS = new ItemKeys(new String[] {"stone", "iron_chestplate", "feather"});
+
+    @Test
+    void roundTripKeepsEveryTable() throws IOException {
+        WeightEngine engine = engine();
+        WeightEngine read = EngineCodec.read(input(write(engine)), KEYS);
+
+        assertEquals(engine.weights(),    read.weights());
+        assertEquals(engine.lightening(), read.lightening());
+        assertEquals(engine.tiers(),      read.tiers());
+        assertEquals(engine.isArmour(1),  read.isArmour(1));
+    }
+
+    @Test
+    void differentRegistrySizeIsRejected() throws IOException {
+        byte[] bytes = write(engine());
+        ItemKeys grown = new ItemKeys(new String[] {"stone", "iron_chestplate", "feather", "dirt"});
+        assertThrows(IOException.class, () -> EngineCodec.read(input(bytes), grown));
+    }
+
+    @Test
+    void foreignDataIsRejected() {
+        byte[] bytes = {0, 1, 2, 3, 4, 5, 6, 7};
+        assertThrows(IOException.class, () -> EngineCodec.read(input(bytes), KEYS));
+    }
+
+    @Test
+    void truncatedDataIsRejected() throws IOException {
+        byte[] bytes = write(engine());
+        byte[] cut = Arrays.copyOf(bytes, bytes.length - 4);
+        assertThrows(IOException.class, () -> EngineCodec.read(input(cut), KEYS));
+    }
+
+    private static WeightEngine engine() {
+        return new WeightEngine(KEYS,
+                WeightTable.of(new double[] {1.5, 12.0, 0.01}),
+                new LighteningTable(Map.of(1, 0.1, 2, 0.2, 3, 0.35)),
+                new TierTable(List.of(
+                        new PenaltyTier(20.0, 1.0,  1.0),
+                        new PenaltyTier(40.0, 0.85, 0.7),
+                        new PenaltyTier(1e9,  0.5,  0.0)), 0.5));
+    }
+
+    private static byte[] write(WeightEngine engine) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EngineCodec.write(new DataOutputStream(bytes), engine);
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
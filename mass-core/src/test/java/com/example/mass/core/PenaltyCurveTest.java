@@ -0,0 +1,77 @@
+package com.example.mass.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PenaltyCurveTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static final List<PenaltyTier> POINTS = List.of(
+            new PenaltyTier(0.0,  1.0, 1.0),
+            new PenaltyTier(10.0, 0.5, 0.0));
+
+    @Test
+    void linearInterpolatesBetweenPoints() {
+        PenaltyCurve curve = PenaltyCurve.sample(POINTS, PenaltyCurve.Interpolation.LINEAR, 0.1);
+        assertEquals(1.0,  curve.speed(0.0),  EPSILON);
+        assertEquals(0.75, curve.speed(5.0),  EPSILON);
+        assertEquals(0.5,  curve.jump(5.0),   EPSILON);
+        assertEquals(0.5,  curve.speed(10.0), EPSILON);
+    }
+
+    @Test
+    void smoothstepEasesInAndOut() {
+        PenaltyCurve curve = PenaltyCurve.sample(POINTS, PenaltyCurve.Interpolation.SMOOTHSTEP, 0.1);
+        assertEquals(0.75,  curve.speed(5.0), EPSILON);
+        // t = 0.25 eases to 0.15625, quantized to 1/1000
+        assertEquals(0.922, curve.speed(2.5), EPSILON);
+    }
+
+    @Test
+    void flatOutsideThePoints() {
+        PenaltyCurve curve = PenaltyCurve.sample(POINTS, PenaltyCurve.Interpolation.LINEAR, 0.1);
+        assertEquals(0.5, curve.speed(50.0), EPSILON);
+        assertEquals(0.0, curve.jump(1e12),  EPSILON);
+        assertEquals(1.0, curve.speed(-3.0), EPSILON);
+        assertEquals(1.0, curve.speed(Double.NaN), EPSILON);
+    }
+
+    @Test
+    void nearbyWeightsShareASample() {
+        PenaltyCurve curve = PenaltyCurve.sample(POINTS, PenaltyCurve.Interpolation.LINEAR, 0.1);
+        assertEquals(curve.speed(5.0), curve.speed(5.04));
+        assertEquals(curve.speed(5.0), curve.speed(4.96));
+    }
+
+    @Test
+    void pointsAreSortedByWeight() {
+        List<PenaltyTier> reversed = List.of(POINTS.get(1), POINTS.get(0));
+        assertEquals(PenaltyCurve.sample(POINTS,   PenaltyCurve.Interpolation.LINEAR, 0.1),
+                     PenaltyCurve.sample(reversed, PenaltyCurve.Interpolation.LINEAR, 0.1));
+    }
+
+    @Test
+    void sampleCountIsBounded() {
+        List<PenaltyTier> wide = List.of(new PenaltyTier(0.0, 1.0, 1.0), new PenaltyTier(1e9, 0.0, 0.0));
+        PenaltyCurve curve = PenaltyCurve.sample(wide, PenaltyCurve.Interpolation.LINEAR, 0.01);
+        assertTrue(curve.size() <= 1 << 16);
+        assertEquals(0.5, curve.speed(5e8), 1e-3);
+    }
+
+    @Test
+    void pointsForStartsAtTheFirstTierAndMeetsEachBoundary() {
+        TierTable tiers = new TierTable(List.of(
+                new PenaltyTier(6.0,  1.0, 1.0),
+                new PenaltyTier(12.0, 0.9, 0.8),
+                new PenaltyTier(1e4,  0.5, 0.0)), 0.0);
+        assertEquals(List.of(
+                new PenaltyTier(0.0,  1.0, 1.0),
+                new PenaltyTier(6.0,  0.9, 0.8),
+                new PenaltyTier(12.0, 0.5, 0.0)), PenaltyCurve.pointsFor(tiers));
+    }
+}
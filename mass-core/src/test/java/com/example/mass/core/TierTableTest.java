@@ -0,0 +1,76 @@
+package com.example.mass.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TierTableTest {
+
+    private static final List<PenaltyTier> TIERS = List.of(
+            new PenaltyTier(6.0,  1.0, 1.0),
+            new PenaltyTier(12.0, 0.9, 0.8),
+            new PenaltyTier(20.0, 0.5, 0.0));
+
+    @Test
+    void boundariesBelongToTheLowerTier() {
+        TierTable table = new TierTable(TIERS, 0.0);
+        assertEquals(0, table.resolveIndex(0.0));
+        assertEquals(0, table.resolveIndex(6.0));
+        assertEquals(1, table.resolveIndex(6.01));
+        assertEquals(1, table.resolveIndex(12.0));
+        assertEquals(2, table.resolveIndex(12.01));
+    }
+
+    @Test
+    void lastTierCatchesEverythingAbove() {
+        TierTable table = new TierTable(TIERS, 0.0);
+        assertEquals(2, table.resolveIndex(20.0));
+        assertEquals(2, table.resolveIndex(1_000.0));
+    }
+
+    @Test
+    void movingUpNeedsToClearTheBand() {
+        TierTable table = new TierTable(TIERS, 1.0);
+        assertEquals(0, table.resolveIndex(6.5, 0));
+        assertEquals(0, table.resolveIndex(7.0, 0));
+        assertEquals(1, table.resolveIndex(7.01, 0));
+    }
+
+    @Test
+    void movingDownNeedsToClearTheBand() {
+        TierTable table = new TierTable(TIERS, 1.0);
+        assertEquals(1, table.resolveIndex(5.5, 1));
+        assertEquals(0, table.resolveIndex(5.0, 1));
+        assertEquals(0, table.resolveIndex(4.0, 1));
+    }
+
+    @Test
+    void farJumpsStillMove() {
+        TierTable table = new TierTable(TIERS, 1.0);
+        assertEquals(2, table.resolveIndex(30.0, 0));
+        assertEquals(0, table.resolveIndex(1.0, 2));
+        // Inside the band of the upper boundary, the player lands one tier short
+        assertEquals(1, table.resolveIndex(12.5, 0));
+    }
+
+    @Test
+    void noBandOrNoPreviousTierResolvesPlainly() {
+        assertEquals(1, new TierTable(TIERS, 0.0).resolveIndex(6.5, 0));
+        TierTable table = new TierTable(TIERS, 1.0);
+        assertEquals(1, table.resolveIndex(6.5, -1));
+        assertEquals(1, table.resolveIndex(6.5, 3));
+    }
+
+    @Test
+    void negativeHysteresisIsClamped() {
+        assertEquals(0.0, new TierTable(TIERS, -2.0).hysteresis());
+    }
+
+    @Test
+    void emptyTableIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TierTable(List.of(), 0.0));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.mass.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightTableTest {
+
+    private static final ItemKeys KEYS = new ItemKeys(new String[] {"stone", "dirt", "oak_log"});
+
+    @Test
+    void identicalTablesHaveNoDiff() {
+        WeightTable a = WeightTable.of(new double[] {1.0, 2.0, 3.0});
+        WeightTable b = WeightTable.of(new double[] {1.0, 2.0, 3.0});
+        assertTrue(a.diff(b).isEmpty());
+    }
+
+    @Test
+    void diffListsChangedIds() {
+        WeightTable a = WeightTable.of(new double[] {1.0, 2.0, 3.0, 4.0});
+        WeightTable b = WeightTable.of(new double[] {1.0, 5.0, 3.0, 0.0});
+        assertEquals(bits(1, 3), a.diff(b));
+        assertEquals(bits(1, 3), b.diff(a));
+    }
+
+    @Test
+    void idsPastTheShorterTableCountAsChanged() {
+        WeightTable shorter = WeightTable.of(new double[] {1.0, 2.0});
+        WeightTable longer  = WeightTable.of(new double[] {1.0, 2.0, 3.0, 4.0});
+        assertEquals(bits(2, 3), shorter.diff(longer));
+        assertEquals(bits(2, 3), longer.diff(shorter));
+    }
+
+    @Test
+    void diffComparesLikeDoubleCompare() {
+        WeightTable a = WeightTable.of(new double[] {Double.NaN, 0.0});
+        WeightTable b = WeightTable.of(new double[] {Double.NaN, -0.0});
+        assertEquals(bits(1), a.diff(b));
+    }
+
+    @Test
+    void overridesReplaceNamedItemsOnly() {
+        WeightTable base = WeightTable.of(new double[] {1.0, 2.0, 3.0});
+        WeightTable over = base.withOverrides(KEYS, Map.of("dirt", 7.5));
+        assertEquals(1.0, over.weightOf(0));
+        assertEquals(7.5, over.weightOf(1));
+        assertEquals(3.0, over.weightOf(2));
+        assertEquals(bits(1), base.diff(over));
+    }
+
+    @Test
+    void overridesLeaveTheOriginalUntouched() {
+        WeightTable base = WeightTable.of(new double[] {1.0, 2.0, 3.0});
+        base.withOverrides(KEYS, Map.of("stone", 9.0));
+        assertEquals(1.0, base.weightOf(0));
+    }
+
+    @Test
+    void unknownOverrideNamesAreSkipped() {
+        WeightTable base = WeightTable.of(new double[] {1.0, 2.0, 3.0});
+        assertEquals(base, base.withOverrides(KEYS, Map.of("not_an_item", 4.0)));
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet set = new BitSet();
+        for (int id : ids) set.set(id);
+        return set;
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.mass;
+
+import com.example.mass.api.MassAPI;
+import com.example.mass.command.MassCommand;
+import com.example.mass.config.CompiledCache;
+import com.example.mass.config.ConfigWatcher;
+import com.example.mass.config.MassConfig;
+import com.example.mass.core.WeightEngine;
+import com.example.mass.enchant.LighteningEnchant;
+import com.example.mass.listener.LootListener;
+import com.example.mass.listener.MobListener;
+import com.example.mass.listener.PlayerListener;
+import com.example.mass.listener.VehicleListener;
+import com.example.mass.listener.VillagerListener;
+import com.example.mass.metrics.MassMetrics;
+import com.example.mass.metrics.MetricsServer;
+import com.example.mass.service.ConfigDiff;
+import com.example.mass.service.EncumbranceService;
+import com.example.mass.service.LoreService;
+import com.example.mass.service.MassApiService;
+import com.example.mass.service.ReloadRefresh;
+import com.example.mass.service.WeightLedger;
+import com.example.mass.service.WeightService;
+import com.example.mass.trace.TraceBuffer;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class MassPlugin extends JavaPlugin {
+
+    private volatile MassConfig massConfig;
+    private WeightService      weightService;
+    private EncumbranceService encumbranceService;
+    private LoreService        loreService;
+    private MobListener        mobListener;
+    private final MassMetrics  metrics = new MassMetrics();
+    private final MassApiService api = new MassApiService();
+    private MetricsServer      metricsServer;
+    private TraceBuffer        trace;
+    private ReloadRefresh      refresh;
+    private ConfigWatcher      watcher;
+    private BukkitTask         verifier;
+    private CompiledCache      compiledCache;
+    // Reloads are numbered when requested; apply skips any older than the last one applied
+    private final AtomicLong   reloadRequests = new AtomicLong();
+    private long               reloadApplied;
+
+    @Override
+    public void onEnable() {
+        saveDefaultConfig();
+        compiledCache = new CompiledCache(getDataFolder().toPath().resolve("config.compiled"), getLogger());
+        try {
+            massConfig = loadConfig(new File(getDataFolder(), "config.yml"));
+        } catch (IOException | InvalidConfigurationException ex) {
+            getLogger().warning("Could not load config.yml, using defaults: " + ex.getMessage());
+            massConfig = new MassConfig(getConfig(), getLogger());
+        }
+        trace      = new TraceBuffer(massConfig.traceCapacity);
+        applyTraceConfig();
+
+        weightService      = new WeightService(this);
+        encumbranceService = new EncumbranceService(this, weightService);
+        loreService        = new LoreService(this, weightService);
+        getServer().getServicesManager().register(MassAPI.class, api, this, ServicePriority.Normal);
+
+        var pm = getServer().getPluginManager();
+        metrics.registerTimed(pm, new PlayerListener(encumbranceService, loreService), this);
+        mobListener = new MobListener(this, weightService);
+        metrics.registerTimed(pm, mobListener, this);
+        metrics.registerTimed(pm, new VehicleListener(this, encumbranceService, weightService), this);
+        metrics.registerTimed(pm, new VillagerListener(this), this);
+        metrics.registerTimed(pm, new LootListener(this), this);
+
+        MassCommand cmd = new MassCommand(this, weightService, encumbranceService, loreService);
+        getServer().getCommandMap().register("mass", "mass", cmd);
+
+        for (Player player : getServer().getOnlinePlayers()) {
+            encumbranceService.scheduleUpdate(player);
+        }
+
+        // Drains every player queued by scheduleUpdate since the last tick in one pass
+        getServer().getScheduler().runTaskTimer(this, encumbranceService::flushUpdates, 1L, 1L);
+
+        // Armour penalties for mobs queued on spawn, equipment change and chunk load
+        mobListener.queueLoaded();
+        getServer().getScheduler().runTaskTimer(this, mobListener::flushQueue, 1L, 1L);
+
+        // Water sink tick — runs every 2 ticks for responsive sinking, but only over the
+        // players already known to be heavy and in water
+        getServer().getScheduler().runTaskTimer(this, encumbranceService::tickSinking, 5L, 2L);
+
+        startVerifier();
+        startMetricsServer();
+        startWatcher();
+
+        if (LighteningEnchant.get() == null) {
+            getLogger().warning("Lightening enchantment not registered — check bootstrap.");
+        }
+    }
+
+    @Override
+    public void onDisable() {
+        getServer().getServicesManager().unregisterAll(this);
+        stopWatcher();
+        stopMetricsServer();
+        for (Player player : getServer().getOnlinePlayers()) {
+            encumbranceService.cleanup(player);
+        }
+    }
+
+    // Reads and compiles config.yml off the main thread, then swaps the new snapshot in on
+    // the main thread. Completes on the main thread once every service sees the new config.
+    // Overlapping reloads may finish loading in any order, so a load that comes back after a
+    // newer one was applied is dropped; the file it read is no newer than what's applied.
+    public @NotNull CompletableFuture<Void> reload() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        long generation = reloadRequests.incrementAndGet();
+        File file = new File(getDataFolder(), "config.yml");
+        getServer().getScheduler().runTaskAsynchronously(this, () -> {
+            MassConfig loaded;
+            try {
+                loaded = loadConfig(file);
+            } catch (Exception ex) {
+                if (isEnabled()) getServer().getScheduler().runTask(this, () -> done.completeExceptionally(ex));
+                return;
+            }
+            if (!isEnabled()) return;
+            getServer().getScheduler().runTask(this, () -> {
+                if (generation > reloadApplied) {
+                    reloadApplied = generation;
+                    apply(loaded);
+                }
+                done.complete(null);
+            });
+        });
+        return done;
+    }
+
+    // Parses config.yml with the same bundled defaults JavaPlugin.getConfig applies. The
+    // compiled tables are reused from the cache file when neither file nor registry changed.
+    private @NotNull MassConfig loadConfig(@NotNull File file) throws IOException, InvalidConfigurationException {
+        byte[] raw     = Files.readAllBytes(file.toPath());
+        byte[] bundled = bundledConfig();
+
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.loadFromString(new String(raw, StandardCharsets.UTF_8));
+        if (bundled.length > 0) {
+            yaml.setDefaults(YamlConfiguration.loadConfiguration(
+                    new StringReader(new String(bundled, StandardCharsets.UTF_8))));
+        }
+
+        byte[] digest = CompiledCache.digest(raw, bundled, getPluginMeta().getVersion(), MassConfig.MATERIAL_KEYS);
+        WeightEngine cached = compiledCache.load(digest, MassConfig.MATERIAL_KEYS);
+        MassConfig loaded = new MassConfig(yaml, getLogger(), cached);
+        if (cached == null) compiledCache.save(digest, loaded.engine);
+        return loaded;
+    }
+
+    private byte @NotNull [] bundledConfig() throws IOException {
+        try (InputStream in = getResource("config.yml")) {
+            return in != null ? in.readAllBytes() : new byte[0];
+        }
+    }
+
+    private void apply(@NotNull MassConfig loaded) {
+        MassConfig previous = massConfig;
+        massConfig = loaded;
+        LighteningEnchant.refresh();
+        applyTraceConfig();
+
+        if (previous.metricsHttpEnabled != massConfig.metricsHttpEnabled
+                || previous.metricsHttpPort != massConfig.metricsHttpPort) {
+            stopMetricsServer();
+            startMetricsServer();
+        }
+        if (previous.watchConfig != massConfig.watchConfig
+                || previous.watchDebounceMs != massConfig.watchDebounceMs) {
+            stopWatcher();
+            startWatcher();
+        }
+        if (previous.ledgerVerifyInterval != massConfig.ledgerVerifyInterval) {
+            stopVerifier();
+            startVerifier();
+        }
+
+        weightService.reloadConfig();
+        encumbranceService.reloadConfig();
+        loreService.reloadConfig();
+
+        // A refresh still running from an earlier reload is folded into this one
+        ConfigDiff diff = ConfigDiff.of(previous, massConfig);
+        Map<UUID, Long> slots = diff.affectedSlots(getServer().getOnlinePlayers(), encumbranceService);
+        if (refresh != null && !refresh.isCancelled()) {
+            refresh.cancel();
+            refresh.pending().forEach((id, mask) -> slots.merge(id, mask, (a, b) -> a | b));
+        }
+        refresh = null;
+        if (!slots.isEmpty()) {
+            refresh = new ReloadRefresh(this, loreService, encumbranceService, slots);
+            refresh.runTaskTimer(this, 0L, 1L);
+        }
+        mobListener.queueLoaded();
+    }
+
+    private void applyTraceConfig() {
+        trace.resize(massConfig.traceCapacity);
+        trace.setSampleRate(massConfig.traceSampleRate);
+        trace.setEnabled(massConfig.traceEnabled);
+    }
+
+    private void startMetricsServer() {
+        if (!massConfig.metricsHttpEnabled) return;
+        try {
+            metricsServer = new MetricsServer(metrics, massConfig.metricsHttpPort);
+            metricsServer.start();
+            getLogger().info("Metrics endpoint listening on 127.0.0.1:" + metricsServer.port() + "/metrics");
+        } catch (IOException ex) {
+            metricsServer = null;
+            getLogger().warning("Could not start metrics endpoint on port " + massConfig.metricsHttpPort
+                    + ": " + ex.getMessage());
+        }
+    }
+
+    private void startVerifier() {
+        long interval = massConfig.ledgerVerifyInterval;
+        if (interval <= 0) return;
+        verifier = getServer().getScheduler().runTaskTimer(this, encumbranceService::verifyLedger, interval, interval);
+    }
+
+    private void stopVerifier() {
+        if (verifier == null) return;
+        verifier.cancel();
+        verifier = null;
+    }
+
+    private void startWatcher() {
+        if (!massConfig.watchConfig) return;
+        try {
+            watcher = new ConfigWatcher(this, massConfig.watchDebounceMs);
+            watcher.start();
+        } catch (IOException ex) {
+            watcher = null;
+            getLogger().warning("Could not watch config.yml: " + ex.getMessage());
+        }
+    }
+
+    private void stopWatcher() {
+        if (watcher == null) return;
+        watcher.stop();
+        watcher = null;
+    }
+
+    private void stopMetricsServer() {
+        if (metricsServer == null) return;
+        metricsServer.stop();
+        metricsServer = null;
+    }
+
+    public @NotNull MassConfig massConfig()                  { return massConfig; }
+    public @NotNull WeightService weightService()            { return weightService; }
+    public @NotNull EncumbranceService encumbranceService()  { return encumbranceService; }
+    public @NotNull LoreService loreService()                { return loreService; }
+    public @NotNull MassMetrics metrics()                    { return metrics; }
+    public @NotNull TraceBuffer trace()                      { return trace; }
+    public @NotNull MassApiService api()                     { return api; }
+}
@@ -0,0 +1,30 @@
+package com.example.mass.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+// One player's weight and penalty state as of their last update. Immutable.
+// Weights are in kg and only count slots inside scope.mode. handWeight is the selected
+// hotbar slot plus the offhand; inventoryWeight includes the hotbar. tier is -1 while
+// penalties are disabled.
+public record EncumbranceSnapshot(@NotNull UUID player,
+                                  double totalWeight,
+                                  double armorWeight,
+                                  double handWeight,
+                                  double inventoryWeight,
+                                  double cargoWeight,
+                                  @NotNull String profile,
+                                  int tier,
+                                  double speedMultiplier,
+                                  double jumpMultiplier,
+                                  boolean sprintDisabled,
+                                  boolean jumpDisabled,
+                                  boolean elytraDisabled) {
+
+    // Same tier and restrictions; weights and multipliers inside a tier may still differ
+    public boolean sameState(@NotNull EncumbranceSnapshot other) {
+        return tier == other.tier && sprintDisabled == other.sprintDisabled
+                && jumpDisabled == other.jumpDisabled && elytraDisabled == other.elytraDisabled;
+    }
+}
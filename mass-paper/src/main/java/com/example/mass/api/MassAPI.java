@@ -0,0 +1,20 @@
+package com.example.mass.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.UUID;
+
+// Registered with Bukkit's ServicesManager:
+//   MassAPI api = Bukkit.getServicesManager().load(MassAPI.class);
+// Reads return the snapshot published after the player's last penalty update. They never
+// touch inventories and are safe from any thread.
+public interface MassAPI {
+
+    // Null until the player has been evaluated once, and after they leave
+    @Nullable EncumbranceSnapshot snapshot(@NotNull UUID player);
+
+    // Latest snapshot of every evaluated online player. Unmodifiable, weakly consistent view.
+    @NotNull Collection<EncumbranceSnapshot> snapshots();
+}
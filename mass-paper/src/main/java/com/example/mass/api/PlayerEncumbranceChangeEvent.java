@@ -0,0 +1,37 @@
+package com.example.mass.api;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Fired on the main thread when a player's tier or sprint, jump or elytra restriction
+// changes. Updates are coalesced per tick, so a burst of inventory changes fires at most once.
+// previous is null on a player's first evaluation after joining.
+public final class PlayerEncumbranceChangeEvent extends PlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final @Nullable EncumbranceSnapshot previous;
+    private final @NotNull  EncumbranceSnapshot current;
+
+    public PlayerEncumbranceChangeEvent(@NotNull Player player, @Nullable EncumbranceSnapshot previous,
+                                        @NotNull EncumbranceSnapshot current) {
+        super(player);
+        this.previous = previous;
+        this.current  = current;
+    }
+
+    public @Nullable EncumbranceSnapshot getPrevious() { return previous; }
+    public @NotNull EncumbranceSnapshot getCurrent()   { return current; }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
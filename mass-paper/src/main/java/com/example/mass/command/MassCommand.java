@@ -1,10 +1,18 @@
 package com.example.mass.command;
 
 import com.example.mass.MassPlugin;
+import com.example.mass.config.WorldProfile;
 import com.example.mass.enchant.LighteningEnchant;
+import com.example.mass.metrics.Counter;
+import com.example.mass.metrics.Histogram;
+import com.example.mass.metrics.MassMetrics;
 import com.example.mass.service.EncumbranceService;
 import com.example.mass.service.LoreService;
+import com.example.mass.service.WeightLedger;
 import com.example.mass.service.WeightService;
+import com.example.mass.trace.TraceBuffer;
+import com.example.mass.trace.TraceRecord;
+import com.example.mass.trace.TraceWriter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.command.Command;
@@ -16,8 +24,17 @@ import org.bukkit.inventory.meta.EnchantmentStorageMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class MassCommand extends Command {
@@ -31,7 +48,7 @@ public final class MassCommand extends Command {
 
     public MassCommand(MassPlugin plugin, WeightService weights,
                        EncumbranceService encumbrance, LoreService lore) {
-        super("mass", "Mass plugin admin commands.", "/mass <reload|info|lore|item|give>", List.of("m"));
+        super("mass", "Mass plugin admin commands.", "/mass <reload|info|lore|item|give|stats|trace>", List.of("m"));
         setPermission(PERM);
         this.plugin      = plugin;
         this.weights     = weights;
@@ -53,6 +70,8 @@ public final class MassCommand extends Command {
             case "lore"            -> cmdLore(sender, args);
             case "item"            -> cmdItem(sender, args);
             case "give"            -> cmdGive(sender, args);
+            case "stats"           -> cmdStats(sender, args);
+            case "trace"           -> cmdTrace(sender, args);
             default                -> { sendHelp(sender); yield true; }
         };
     }
@@ -64,11 +83,13 @@ public final class MassCommand extends Command {
         if (!sender.hasPermission(PERM)) return Collections.emptyList();
 
         return switch (args.length) {
-            case 1 -> filter(List.of("reload", "info", "lore", "item", "give"), args[0]);
+            case 1 -> filter(List.of("reload", "info", "lore", "item", "give", "stats", "trace"), args[0]);
             case 2 -> switch (args[0].toLowerCase()) {
                 case "info", "weight", "lore" -> filterPlayers(args[1]);
                 case "item"                   -> filter(List.of("set", "clear"), args[1]);
                 case "give"                   -> filter(List.of("lightening"), args[1]);
+                case "stats"                  -> filter(List.of("reset"), args[1]);
+                case "trace"                  -> filter(List.of("on", "off", "player", "sample", "dump", "clear"), args[1]);
                 default                       -> Collections.emptyList();
             };
             case 3 -> switch (args[0].toLowerCase()) {
@@ -78,6 +99,15 @@ public final class MassCommand extends Command {
                 case "give" -> args[1].equalsIgnoreCase("lightening")
                         ? filter(List.of("1", "2", "3"), args[2])
                         : Collections.emptyList();
+                case "trace" -> switch (args[1].toLowerCase()) {
+                    case "player" -> {
+                        List<String> names = new ArrayList<>(filterPlayers(args[2]));
+                        names.addAll(filter(List.of("all"), args[2]));
+                        yield names;
+                    }
+                    case "sample" -> filter(List.of("1", "10", "100", "1000"), args[2]);
+                    default       -> Collections.emptyList();
+                };
                 default -> Collections.emptyList();
             };
             default -> Collections.emptyList();
@@ -85,8 +115,15 @@ public final class MassCommand extends Command {
     }
 
     private boolean cmdReload(@NotNull CommandSender sender) {
-        plugin.reload();
-        sender.sendMessage(green("Config reloaded."));
+        plugin.reload().whenComplete((ignored, ex) -> {
+            if (ex == null) {
+                sender.sendMessage(green("Config reloaded."));
+            } else {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                plugin.getLogger().warning("Reload failed, keeping previous config: " + cause.getMessage());
+                sender.sendMessage(red("Reload failed, keeping previous config: " + cause.getMessage()));
+            }
+        });
         return true;
     }
 
@@ -94,12 +131,14 @@ public final class MassCommand extends Command {
         Player target = resolvePlayer(sender, args, 1);
         if (target == null) return true;
 
-        double total     = weights.computeTotalWeight(target);
-        double armor     = weights.computeArmorWeight(target);
-        double hand      = weights.computeHandWeight(target);
-        double inventory = weights.computeInventoryWeight(target);
+        WorldProfile profile = encumbrance.profile(target);
+        double total     = encumbrance.getTotalWeight(target);
+        double armor     = weights.computeArmorWeight(target, profile);
+        double hand      = weights.computeHandWeight(target, profile);
+        double inventory = weights.computeInventoryWeight(target, profile);
 
         sender.sendMessage(Component.text("── Weight: " + target.getName() + " ──").color(NamedTextColor.GOLD));
+        if (profile.index() != 0) sender.sendMessage(stat("  Profile", profile.name()));
         sender.sendMessage(stat("  Total",     fmt(total)));
         sender.sendMessage(stat("  Armour",    fmt(armor)));
         sender.sendMessage(stat("  Hands",     fmt(hand)));
@@ -115,19 +154,9 @@ public final class MassCommand extends Command {
         Player target = resolvePlayer(sender, args, 1);
         if (target == null) return true;
 
-        ItemStack[] contents = target.getInventory().getStorageContents();
-        for (ItemStack item : contents) if (item != null) lore.updateLore(item);
-        target.getInventory().setStorageContents(contents);
-
-        ItemStack[] armour = target.getInventory().getArmorContents();
-        for (ItemStack piece : armour) if (piece != null) lore.updateLore(piece);
-        target.getInventory().setArmorContents(armour);
-
-        ItemStack off = target.getInventory().getItemInOffHand();
-        lore.updateLore(off);
-        target.getInventory().setItemInOffHand(off);
-
-        sender.sendMessage(green("Refreshed weight lore for " + target.getName() + "."));
+        int written = lore.refreshInventory(target.getInventory(), WeightLedger.PLAYER_MASK, encumbrance.profile(target));
+        sender.sendMessage(green("Refreshed weight lore for " + target.getName()
+                + " (" + written + " item" + (written == 1 ? "" : "s") + " updated)."));
         return true;
     }
 
@@ -164,18 +193,18 @@ public final class MassCommand extends Command {
         }
         if (value < 0) { player.sendMessage(red("Weight must be ≥ 0.")); return true; }
         weights.setWeight(held, value);
-        lore.updateLore(held);
+        lore.updateLore(held, encumbrance.profile(player));
         player.getInventory().setItemInMainHand(held);
-        encumbrance.scheduleUpdate(player);
+        encumbrance.scheduleUpdate(player, WeightLedger.slotBit(player.getInventory().getHeldItemSlot()));
         player.sendMessage(green("Set " + held.getType() + " weight → " + fmt(value) + "."));
         return true;
     }
 
     private boolean cmdItemClear(@NotNull Player player, @NotNull ItemStack held) {
         weights.clearWeight(held);
-        lore.updateLore(held);
+        lore.updateLore(held, encumbrance.profile(player));
         player.getInventory().setItemInMainHand(held);
-        encumbrance.scheduleUpdate(player);
+        encumbrance.scheduleUpdate(player, WeightLedger.slotBit(player.getInventory().getHeldItemSlot()));
         player.sendMessage(green("Cleared weight override from " + held.getType() + "."));
         return true;
     }
@@ -206,10 +235,130 @@ public final class MassCommand extends Command {
             book.setItemMeta(meta);
         }
         player.getInventory().addItem(book);
+        encumbrance.scheduleUpdate(player, WeightLedger.STORAGE_MASK | WeightLedger.OFFHAND_MASK);
         player.sendMessage(green("Given Lightening " + level + " book."));
         return true;
     }
 
+    private boolean cmdStats(@NotNull CommandSender sender, String[] args) {
+        MassMetrics metrics = plugin.metrics();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage(green("Metrics reset."));
+            return true;
+        }
+
+        sender.sendMessage(Component.text("── Mass stats ──").color(NamedTextColor.GOLD));
+        sender.sendMessage(stat("  Weight lookups", metrics.pdcLookups.get() + " PDC / "
+                + metrics.configLookups.get() + " config"));
+        sender.sendMessage(stat("  Updates", metrics.executedUpdates.get() + " executed / "
+                + metrics.coalescedUpdates.get() + " coalesced / "
+                + encumbrance.pendingUpdates() + " pending"));
+        for (Counter c : metrics.counters()) {
+            if (c == metrics.pdcLookups || c == metrics.configLookups
+                    || c == metrics.coalescedUpdates || c == metrics.executedUpdates) continue;
+            String name = c.labelValue() != null ? c.family() + "[" + c.labelValue() + "]" : c.family();
+            sender.sendMessage(stat("  " + name, String.valueOf(c.get())));
+        }
+
+        // Busiest first by total time
+        List<Histogram> timed = new ArrayList<>();
+        for (Histogram h : metrics.histograms()) if (h.count() > 0) timed.add(h);
+        timed.sort(Comparator.comparingLong(Histogram::sumNanos).reversed());
+        if (timed.isEmpty()) {
+            sender.sendMessage(Component.text("  No timings recorded yet.").color(NamedTextColor.GRAY));
+            return true;
+        }
+        for (Histogram h : timed) {
+            long   n    = h.count();
+            long   p99  = h.quantileBound(0.99);
+            String name = h.labelValue() != null ? h.labelValue() : h.family();
+            sender.sendMessage(stat("  " + name, String.format("%d calls, avg %.1f µs, p99 %s, total %.1f ms",
+                    n, h.sumNanos() / 1e3 / n, p99 < 0 ? "> 50 ms" : "≤ " + micros(p99),
+                    h.sumNanos() / 1e6)));
+        }
+        return true;
+    }
+
+    private boolean cmdTrace(@NotNull CommandSender sender, String[] args) {
+        TraceBuffer trace = plugin.trace();
+        String sub = args.length >= 2 ? args[1].toLowerCase() : "status";
+        switch (sub) {
+            case "on", "off" -> {
+                trace.setEnabled(sub.equals("on"));
+                sender.sendMessage(green("Tracing " + (trace.enabled() ? "enabled" : "disabled") + "."));
+            }
+            case "player" -> {
+                if (args.length < 3) { sender.sendMessage(yellow("Usage: /mass trace player <name|all>")); return true; }
+                if (args[2].equalsIgnoreCase("all")) {
+                    trace.setFilter(null);
+                    sender.sendMessage(green("Tracing all players."));
+                    return true;
+                }
+                Player target = plugin.getServer().getPlayer(args[2]);
+                if (target == null) { sender.sendMessage(red("Player not found: " + args[2])); return true; }
+                trace.setFilter(target.getUniqueId());
+                sender.sendMessage(green("Tracing only " + target.getName() + "."));
+            }
+            case "sample" -> {
+                if (args.length < 3) { sender.sendMessage(yellow("Usage: /mass trace sample <n>")); return true; }
+                try { trace.setSampleRate(Integer.parseInt(args[2])); }
+                catch (NumberFormatException ex) { sender.sendMessage(red("Not a number: " + args[2])); return true; }
+                sender.sendMessage(green("Keeping 1 in " + trace.sampleRate() + " trace records."));
+            }
+            case "clear" -> {
+                trace.clear();
+                sender.sendMessage(green("Trace buffer cleared."));
+            }
+            case "dump" -> dumpTrace(sender, trace);
+            default -> {
+                UUID only = trace.filter();
+                sender.sendMessage(Component.text("── Mass trace ──").color(NamedTextColor.GOLD));
+                sender.sendMessage(stat("  Enabled",  String.valueOf(trace.enabled())));
+                sender.sendMessage(stat("  Capacity", trace.capacity() + " records"));
+                sender.sendMessage(stat("  Sampling", "1 in " + trace.sampleRate()));
+                sender.sendMessage(stat("  Player",   only == null ? "all" : nameOf(only)));
+            }
+        }
+        return true;
+    }
+
+    // Snapshot and name lookup on the main thread, file write off it, reply back on the main thread
+    private void dumpTrace(@NotNull CommandSender sender, @NotNull TraceBuffer trace) {
+        List<TraceRecord> records = trace.snapshot();
+        Map<UUID, String> names = new HashMap<>();
+        for (TraceRecord rec : records) {
+            if (rec.player() != null) names.computeIfAbsent(rec.player(), this::nameOf);
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        Path file = plugin.getDataFolder().toPath().resolve("traces").resolve("trace-" + stamp + ".log");
+
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            Component reply;
+            try {
+                TraceWriter.write(file, records, names);
+                reply = green("Wrote " + records.size() + " trace record"
+                        + (records.size() == 1 ? "" : "s") + " to " + plugin.getDataFolder().toPath().relativize(file) + ".");
+            } catch (IOException ex) {
+                reply = red("Could not write trace: " + ex.getMessage());
+            }
+            if (!plugin.isEnabled()) return;
+            Component message = reply;
+            plugin.getServer().getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+        });
+    }
+
+    private @NotNull String nameOf(@NotNull UUID id) {
+        Player online = plugin.getServer().getPlayer(id);
+        if (online != null) return online.getName();
+        String name = plugin.getServer().getOfflinePlayer(id).getName();
+        return name != null ? name : id.toString();
+    }
+
+    private static String micros(long nanos) {
+        return nanos >= 1_000_000 ? (nanos / 1_000_000) + " ms" : String.format("%.1f µs", nanos / 1e3);
+    }
+
     private List<String> suggestWeights(@NotNull CommandSender sender) {
         List<String> list = new java.util.ArrayList<>(List.of("0.1", "0.5", "1.0", "2.0", "5.0", "10.0"));
         if (sender instanceof Player player) {
@@ -250,6 +399,8 @@ public final class MassCommand extends Command {
         s.sendMessage(yellow("  /mass item set <value>        — set held item weight"));
         s.sendMessage(yellow("  /mass item clear              — clear held item override"));
         s.sendMessage(yellow("  /mass give lightening [1|2|3] — give Lightening book"));
+        s.sendMessage(yellow("  /mass stats [reset]           — handler timings and counters"));
+        s.sendMessage(yellow("  /mass trace <on|off|dump|...> — trace buffer"));
     }
 
     private static void sendItemHelp(CommandSender s) {
@@ -0,0 +1,87 @@
+package com.example.mass.config;
+
+import com.example.mass.core.EngineCodec;
+import com.example.mass.core.ItemKeys;
+import com.example.mass.core.WeightEngine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.logging.Logger;
+
+// Compiled weight, tier and Lightening tables from the last parse of config.yml, so an
+// unchanged config skips walking the weight sections. The file starts with a SHA-256 of
+// everything the compile depends on; any mismatch or read error just means a fresh compile.
+public final class CompiledCache {
+
+    private static final int DIGEST_LENGTH = 32;
+
+    private final Path   file;
+    private final Logger log;
+
+    public CompiledCache(@NotNull Path file, @NotNull Logger log) {
+        this.file = file;
+        this.log  = log;
+    }
+
+    // config.yml, the bundled defaults it falls back to, the plugin version (compile rules)
+    // and the material registry the table is indexed by
+    public static byte @NotNull [] digest(byte @NotNull [] config, byte @NotNull [] defaults,
+                                         @NotNull String version, @NotNull ItemKeys keys) {
+        MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        update(sha, config);
+        update(sha, defaults);
+        update(sha, version.getBytes(StandardCharsets.UTF_8));
+        for (int id = 0; id < keys.size(); id++) update(sha, keys.name(id).getBytes(StandardCharsets.UTF_8));
+        return sha.digest();
+    }
+
+    public synchronized @Nullable WeightEngine load(byte @NotNull [] digest, @NotNull ItemKeys keys) {
+        if (!Files.isRegularFile(file)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            byte[] stored = new byte[DIGEST_LENGTH];
+            in.readFully(stored);
+            if (!MessageDigest.isEqual(stored, digest)) return null;
+            return EngineCodec.read(in, keys);
+        } catch (IOException ex) {
+            log.warning("Ignoring " + file.getFileName() + ": " + ex.getMessage());
+            return null;
+        }
+    }
+
+    // Written beside the target and moved into place, so a crash never leaves half a file
+    public synchronized void save(byte @NotNull [] digest, @NotNull WeightEngine engine) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.write(digest);
+                EngineCodec.write(out, engine);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            log.warning("Could not write " + file.getFileName() + ": " + ex.getMessage());
+        }
+    }
+
+    // Length-prefixed so adjacent inputs can't run together into the same digest
+    private static void update(MessageDigest sha, byte[] bytes) {
+        int n = bytes.length;
+        sha.update(new byte[] { (byte) (n >>> 24), (byte) (n >>> 16), (byte) (n >>> 8), (byte) n });
+        sha.update(bytes);
+    }
+}
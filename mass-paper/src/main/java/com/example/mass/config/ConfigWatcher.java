@@ -0,0 +1,86 @@
+package com.example.mass.config;
+
+import com.example.mass.MassPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+// Reloads when config.yml is saved. Editors often write a file in several steps, so the
+// reload only runs once the file has been quiet for the debounce window.
+public final class ConfigWatcher implements Runnable {
+
+    private static final String FILE_NAME = "config.yml";
+
+    private final MassPlugin   plugin;
+    private final WatchService watch;
+    private final long         debounceNanos;
+    private final Thread       thread;
+
+    public ConfigWatcher(@NotNull MassPlugin plugin, long debounceMs) throws IOException {
+        Path dir = plugin.getDataFolder().toPath();
+        this.plugin        = plugin;
+        this.watch         = dir.getFileSystem().newWatchService();
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMs);
+        dir.register(watch, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this, "Mass config watcher");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    public void stop() {
+        try {
+            watch.close();
+        } catch (IOException ignored) {}
+        thread.interrupt();
+    }
+
+    @Override
+    public void run() {
+        long due = -1L;
+        while (true) {
+            WatchKey key;
+            try {
+                key = due < 0 ? watch.take() : watch.poll(Math.max(0L, due - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+
+            if (key == null) {
+                due = -1L;
+                reload();
+                continue;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                // Overflow has no file name; treat it as a change
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                        || event.context() instanceof Path path && path.toString().equals(FILE_NAME)) {
+                    due = System.nanoTime() + debounceNanos;
+                }
+            }
+            if (!key.reset()) return;
+        }
+    }
+
+    private void reload() {
+        if (!plugin.isEnabled()) return;
+        plugin.reload().whenComplete((ignored, ex) -> {
+            if (ex == null) {
+                plugin.getLogger().info(FILE_NAME + " changed, reloaded.");
+            } else {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                plugin.getLogger().warning(FILE_NAME + " changed but could not be loaded, keeping previous config: "
+                        + cause.getMessage());
+            }
+        });
+    }
+}
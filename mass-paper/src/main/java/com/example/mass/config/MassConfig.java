@@ -0,0 +1,443 @@
+package com.example.mass.config;
+
+import com.example.mass.core.ItemKeys;
+import com.example.mass.core.LighteningTable;
+import com.example.mass.core.PenaltyCurve;
+import com.example.mass.core.PenaltyTier;
+import com.example.mass.core.TierTable;
+import com.example.mass.core.WeightEngine;
+import com.example.mass.core.WeightTable;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+public final class MassConfig {
+
+    public final boolean loreEnabled;
+    public final String  loreWeightFormat;
+    public final boolean loreEffectiveEnabled;
+    public final String  loreEffectiveFormat;
+    // Changes whenever the lore layout would render differently; stamped onto rewritten items
+    public final int     loreGeneration;
+
+    // Material names in ordinal order; core ids are Material ordinals
+    public static final ItemKeys MATERIAL_KEYS = materialKeys();
+
+    // Compiled weights, categories, tiers and Lightening reductions
+    public final WeightEngine engine;
+    public final double weightFallback;
+
+    // profiles.get(0) is the global engine above; the rest come from the profiles section
+    public final List<WorldProfile> profiles;
+    public final WorldProfile       defaultProfile;
+    private final Map<String, WorldProfile> worldProfiles;
+
+    public final boolean containersEnabled;
+    public final int     containersMaxDepth;
+    public final int     containersCacheSize;
+
+    public final boolean stateEnabled;
+    public final double  stateDamagedMultiplier;
+    public final double  statePerEnchantment;
+    public final double  statePerPotionEffect;
+    public final int     stateCacheSize;
+
+    public final ScopeMode scopeMode;
+
+    public final boolean penaltiesEnabled;
+    public final List<PenaltyTier> penaltyTiers;
+    public final double tierHysteresis;
+    public final double disableSprintAbove;
+    // penalties.mode CURVE: multipliers follow each profile's sampled curve instead of the steps
+    public final boolean                    curveMode;
+    public final PenaltyCurve.Interpolation curveInterpolation;
+    public final double                     curveResolution;
+    private final @Nullable List<PenaltyTier> curvePoints;
+
+    public final boolean lighteningEnabled;
+    public final int     lighteningMaxLevel;
+    public final boolean lighteningTreasure;
+    public final boolean lighteningAnvilCombine;
+
+    public final boolean sourceEnchantTable;
+    public final boolean sourceVillagers;
+    public final int     sourceVillagersMaxPerVillager;
+    public final boolean sourceLoot;
+    public final double  sourceLootInjectChance;
+
+    public final boolean vehicleHorsesEnabled;
+    public final double  vehicleSpeedReductionPerKg;
+    public final double  vehicleMaxReduction;
+    public final boolean vehicleElytraEnabled;
+    public final double  vehicleElytraDisableAbove;
+    public final double  waterSinkAbove;
+    public final double  waterSinkSpeed;
+
+    public final boolean mobsEnabled;
+    public final int     mobsPerTick;
+
+    public final long ledgerVerifyInterval;
+    public final int  updatesPerTick;
+    public final long reloadBudgetMs;
+    public final boolean watchConfig;
+    public final long    watchDebounceMs;
+
+    public final boolean metricsHttpEnabled;
+    public final int     metricsHttpPort;
+
+    public final boolean traceEnabled;
+    public final int     traceCapacity;
+    public final int     traceSampleRate;
+
+    public MassConfig(@NotNull FileConfiguration cfg, @NotNull Logger log) {
+        this(cfg, log, null);
+    }
+
+    // A compiled engine from CompiledCache replaces the weight, tier and Lightening compile
+    public MassConfig(@NotNull FileConfiguration cfg, @NotNull Logger log, @Nullable WeightEngine compiled) {
+        loreEnabled          = cfg.getBoolean("display.lore.enabled", true);
+        loreWeightFormat     = cfg.getString("display.lore.weight_format", "Weight: {weight} kg");
+        loreEffectiveEnabled = cfg.getBoolean("display.lore.effective_enabled", false);
+        loreEffectiveFormat  = cfg.getString("display.lore.effective_format", "Effective: {effective} kg");
+        loreGeneration       = Objects.hash(loreWeightFormat, loreEffectiveEnabled, loreEffectiveFormat);
+
+        weightFallback = cfg.getDouble("weights.defaults.misc.fallback", 0.05);
+
+        containersEnabled   = cfg.getBoolean("weights.containers.enabled", true);
+        containersMaxDepth  = Math.max(1, cfg.getInt("weights.containers.max_depth", 2));
+        containersCacheSize = Math.max(16, cfg.getInt("weights.containers.cache_size", 2048));
+
+        stateEnabled           = cfg.getBoolean("weights.state.enabled", false);
+        stateDamagedMultiplier = Math.max(0.0, cfg.getDouble("weights.state.damaged_multiplier", 0.85));
+        statePerEnchantment    = cfg.getDouble("weights.state.per_enchantment", 0.05);
+        statePerPotionEffect   = cfg.getDouble("weights.state.per_potion_effect", 0.05);
+        stateCacheSize         = Math.max(16, cfg.getInt("weights.state.cache_size", 2048));
+
+        ScopeMode scope = ScopeMode.parse(cfg.getString("scope.mode", "EVERYTHING"));
+        if (scope == null) {
+            log.warning("Unknown scope.mode '" + cfg.getString("scope.mode") + "', using EVERYTHING");
+            scope = ScopeMode.EVERYTHING;
+        }
+        scopeMode = scope;
+
+        penaltiesEnabled   = cfg.getBoolean("penalties.enabled", true);
+        disableSprintAbove = cfg.getDouble("penalties.disable_sprint_above", -1);
+
+        String mode = cfg.getString("penalties.mode", "TIERS").toUpperCase();
+        curveMode = mode.equals("CURVE");
+        if (!curveMode && !mode.equals("TIERS"))
+            log.warning("Unknown penalties.mode '" + mode + "', using TIERS");
+        PenaltyCurve.Interpolation interpolation;
+        try {
+            interpolation = PenaltyCurve.Interpolation.valueOf(
+                    cfg.getString("penalties.curve.interpolation", "LINEAR").toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            log.warning("Unknown penalties.curve.interpolation '" + cfg.getString("penalties.curve.interpolation")
+                    + "', using LINEAR");
+            interpolation = PenaltyCurve.Interpolation.LINEAR;
+        }
+        curveInterpolation = interpolation;
+        curveResolution    = Math.max(0.001, cfg.getDouble("penalties.curve.resolution", 0.05));
+        curvePoints        = parsePoints(cfg.getList("penalties.curve.points"));
+
+        engine = compiled != null
+                ? compiled
+                : new WeightEngine(MATERIAL_KEYS, compileWeights(cfg), compileLightening(cfg), compileTiers(cfg));
+        penaltyTiers   = engine.tiers().tiers();
+        tierHysteresis = engine.tiers().hysteresis();
+
+        List<WorldProfile> profileList = new ArrayList<>();
+        profileList.add(new WorldProfile("default", 0, Set.of(), Map.of(), engine,
+                compileCurve(engine.tiers(), null)));
+        Map<String, WorldProfile> byWorld = new HashMap<>();
+        ConfigurationSection profilesSec = cfg.getConfigurationSection("profiles");
+        if (profilesSec != null) {
+            for (String name : profilesSec.getKeys(false)) {
+                ConfigurationSection sec = profilesSec.getConfigurationSection(name);
+                if (sec == null) continue;
+                WorldProfile profile = compileProfile(name, profileList.size(), sec);
+                profileList.add(profile);
+                for (String world : profile.worlds()) {
+                    WorldProfile taken = byWorld.putIfAbsent(world, profile);
+                    if (taken != null)
+                        log.warning("World '" + world + "' is listed in profiles " + taken.name() + " and "
+                                + name + ", using " + taken.name());
+                }
+            }
+        }
+        profiles       = List.copyOf(profileList);
+        defaultProfile = profiles.get(0);
+        worldProfiles  = Map.copyOf(byWorld);
+
+        lighteningEnabled      = cfg.getBoolean("enchantments.lightening.enabled", true);
+        lighteningMaxLevel     = cfg.getInt("enchantments.lightening.max_level", 3);
+        lighteningTreasure     = cfg.getBoolean("enchantments.lightening.treasure", false);
+        lighteningAnvilCombine = cfg.getBoolean("enchantments.lightening.anvil_combine", true);
+
+        sourceEnchantTable            = cfg.getBoolean("sources.enchanting_table.enabled", true);
+        sourceVillagers               = cfg.getBoolean("sources.villagers.enabled", true);
+        sourceVillagersMaxPerVillager = cfg.getInt("sources.villagers.max_per_villager", 1);
+        sourceLoot                    = cfg.getBoolean("sources.loot.enabled", true);
+        sourceLootInjectChance        = cfg.getDouble("sources.loot.inject_chance", 0.30);
+
+        vehicleHorsesEnabled             = cfg.getBoolean("vehicles.horses.enabled", true);
+        vehicleSpeedReductionPerKg       = cfg.getDouble("vehicles.horses.speed_reduction_per_kg", 0.010);
+        vehicleMaxReduction              = cfg.getDouble("vehicles.horses.max_reduction", 0.85);
+        vehicleElytraEnabled             = cfg.getBoolean("vehicles.elytra.enabled", true);
+        vehicleElytraDisableAbove        = cfg.getDouble("vehicles.elytra.disable_above", 12.0);
+        waterSinkAbove                   = cfg.getDouble("water.sink_above", 35.0);
+        waterSinkSpeed                   = cfg.getDouble("water.sink_speed", 0.15);
+
+        mobsEnabled = cfg.getBoolean("mobs.enabled", true);
+        mobsPerTick = Math.max(0, cfg.getInt("mobs.per_tick", 50));
+
+        ledgerVerifyInterval = Math.max(0L, cfg.getLong("performance.ledger_verify_interval", 200L));
+        updatesPerTick       = Math.max(0, cfg.getInt("performance.updates_per_tick", 0));
+        reloadBudgetMs       = Math.max(0L, cfg.getLong("performance.reload_budget_ms", 5L));
+        watchConfig          = cfg.getBoolean("performance.watch_config", false);
+        watchDebounceMs      = Math.max(50L, cfg.getLong("performance.watch_debounce_ms", 500L));
+
+        metricsHttpEnabled = cfg.getBoolean("metrics.http.enabled", false);
+        metricsHttpPort    = cfg.getInt("metrics.http.port", 9465);
+
+        traceEnabled    = cfg.getBoolean("trace.enabled", false);
+        traceCapacity   = Math.max(16, cfg.getInt("trace.capacity", 8192));
+        traceSampleRate = Math.max(1, cfg.getInt("trace.sample_rate", 1));
+    }
+
+    public double weightOf(@NotNull Material material) {
+        return engine.weightOf(material.ordinal());
+    }
+
+    // Name lookup, so only called on join, world change and reload; players keep the result
+    public @NotNull WorldProfile profileFor(@NotNull World world) {
+        if (worldProfiles.isEmpty()) return defaultProfile;
+        return worldProfiles.getOrDefault(world.getName(), defaultProfile);
+    }
+
+    // Profile indices still mean the same thing, so players can keep theirs across a reload
+    public boolean sameProfiles(@NotNull MassConfig other) {
+        if (profiles.size() != other.profiles.size()) return false;
+        for (int i = 1; i < profiles.size(); i++)
+            if (!profiles.get(i).sameDefinition(other.profiles.get(i))) return false;
+        return true;
+    }
+
+    public double getLighteningReduction(int level) {
+        return engine.lightening().reduction(level);
+    }
+
+    public @NotNull PenaltyTier resolveTier(double totalWeight) {
+        return engine.resolveTier(totalWeight);
+    }
+
+    // Speed multiplier from a profile's curve or steps, e.g. for mobs
+    public double speedMultiplier(@NotNull WorldProfile profile, double totalWeight) {
+        PenaltyCurve curve = profile.curve();
+        return curve != null ? curve.speed(totalWeight) : profile.engine().resolveTier(totalWeight).speedMultiplier();
+    }
+
+    public int resolveTierIndex(double totalWeight) {
+        return engine.tiers().resolveIndex(totalWeight);
+    }
+
+    // Hysteresis-aware; see TierTable.resolveIndex
+    public int resolveTierIndex(double totalWeight, int previous) {
+        return engine.tiers().resolveIndex(totalWeight, previous);
+    }
+
+    // Collects explicit names from the YAML (defaults, then overrides on top) and the
+    // category weights, then lets the engine resolve every Material once.
+    private WeightTable compileWeights(@NotNull FileConfiguration cfg) {
+        Map<String, Double> explicit = new HashMap<>();
+        buildWeightTable(cfg, explicit);
+
+        ConfigurationSection overridesSec = cfg.getConfigurationSection("weights.overrides");
+        if (overridesSec != null) {
+            for (String key : overridesSec.getKeys(false))
+                explicit.put(key.toUpperCase(), overridesSec.getDouble(key));
+        }
+
+        Map<String, Double> categories = new HashMap<>();
+        ConfigurationSection catSec = cfg.getConfigurationSection("weights.categories");
+        if (catSec != null) {
+            for (String key : catSec.getKeys(false))
+                categories.put(key.toLowerCase(), catSec.getDouble(key));
+        }
+
+        return WeightTable.compile(MATERIAL_KEYS, explicit, categories, weightFallback);
+    }
+
+    // Global weights with the profile's overrides on top; tiers and hysteresis default to the global ones
+    private @NotNull WorldProfile compileProfile(@NotNull String name, int index, @NotNull ConfigurationSection sec) {
+        Map<String, Double> overrides = new HashMap<>();
+        ConfigurationSection overridesSec = sec.getConfigurationSection("overrides");
+        if (overridesSec != null) {
+            for (String key : overridesSec.getKeys(false))
+                overrides.put(key.toUpperCase(), overridesSec.getDouble(key));
+        }
+
+        TierTable tiers = engine.tiers();
+        double hysteresis = sec.getDouble("hysteresis", tiers.hysteresis());
+        if (sec.isList("tiers")) {
+            tiers = new TierTable(parseTiers(sec.getList("tiers")), hysteresis);
+        } else if (hysteresis != tiers.hysteresis()) {
+            tiers = new TierTable(tiers.tiers(), hysteresis);
+        }
+
+        WeightEngine compiled = new WeightEngine(MATERIAL_KEYS,
+                engine.weights().withOverrides(MATERIAL_KEYS, overrides), engine.lightening(), tiers);
+        return new WorldProfile(name, index, Set.copyOf(sec.getStringList("worlds")), Map.copyOf(overrides), compiled,
+                compileCurve(tiers, parsePoints(sec.getList("curve.points"))));
+    }
+
+    // Own points, else the global curve.points, else a curve through the tiers
+    private @Nullable PenaltyCurve compileCurve(@NotNull TierTable tiers, @Nullable List<PenaltyTier> points) {
+        if (!curveMode) return null;
+        if (points == null) points = curvePoints != null ? curvePoints : PenaltyCurve.pointsFor(tiers);
+        return PenaltyCurve.sample(points, curveInterpolation, curveResolution);
+    }
+
+    private static TierTable compileTiers(@NotNull FileConfiguration cfg) {
+        return new TierTable(parseTiers(cfg.getList("penalties.tiers", Collections.emptyList())),
+                cfg.getDouble("penalties.hysteresis", 0.0));
+    }
+
+    private static List<PenaltyTier> parseTiers(@Nullable List<?> tierList) {
+        List<PenaltyTier> tiers = new ArrayList<>();
+        if (tierList == null) tierList = Collections.emptyList();
+        for (Object obj : tierList) {
+            if (obj instanceof Map<?, ?> map) {
+                tiers.add(new PenaltyTier(
+                        toDouble(map.get("max_weight"), 9999.0),
+                        toDouble(map.get("speed_multiplier"), 1.0),
+                        toDouble(map.get("jump_multiplier"), 1.0)));
+            }
+        }
+        if (tiers.isEmpty()) tiers.add(new PenaltyTier(9999.0, 1.0, 1.0));
+        return tiers;
+    }
+
+    // Curve control points use the tier keys with weight in place of max_weight
+    private static @Nullable List<PenaltyTier> parsePoints(@Nullable List<?> pointList) {
+        if (pointList == null) return null;
+        List<PenaltyTier> points = new ArrayList<>();
+        for (Object obj : pointList) {
+            if (obj instanceof Map<?, ?> map) {
+                points.add(new PenaltyTier(
+                        toDouble(map.get("weight"), 0.0),
+                        toDouble(map.get("speed_multiplier"), 1.0),
+                        toDouble(map.get("jump_multiplier"), 1.0)));
+            }
+        }
+        return points.isEmpty() ? null : List.copyOf(points);
+    }
+
+    private static LighteningTable compileLightening(@NotNull FileConfiguration cfg) {
+        Map<Integer, Double> lighteningReductions = new HashMap<>();
+        ConfigurationSection reductions = cfg.getConfigurationSection("enchantments.lightening.reductions");
+        if (reductions != null) {
+            for (String lvlStr : reductions.getKeys(false)) {
+                try { lighteningReductions.put(Integer.parseInt(lvlStr), reductions.getDouble(lvlStr)); }
+                catch (NumberFormatException ignored) {}
+            }
+        }
+        lighteningReductions.putIfAbsent(1, 0.30);
+        lighteningReductions.putIfAbsent(2, 0.45);
+        lighteningReductions.putIfAbsent(3, 0.60);
+        return new LighteningTable(lighteningReductions);
+    }
+
+    private static ItemKeys materialKeys() {
+        Material[] materials = Material.values();
+        String[] names = new String[materials.length];
+        for (Material m : materials) names[m.ordinal()] = m.name();
+        return new ItemKeys(names);
+    }
+
+    private static void buildWeightTable(@NotNull FileConfiguration cfg, @NotNull Map<String, Double> weightTable) {
+        ConfigurationSection armorSec = cfg.getConfigurationSection("weights.defaults.armor");
+        if (armorSec != null) {
+            for (String matKey : armorSec.getKeys(false)) {
+                ConfigurationSection ms = armorSec.getConfigurationSection(matKey);
+                if (ms == null) continue;
+                String prefix = armorMaterialPrefix(matKey);
+                for (String typeKey : ms.getKeys(false))
+                    weightTable.put((prefix + "_" + typeKey).toUpperCase(), ms.getDouble(typeKey));
+            }
+        }
+
+        ConfigurationSection toolSec = cfg.getConfigurationSection("weights.defaults.tools");
+        if (toolSec != null) {
+            for (String matKey : toolSec.getKeys(false)) {
+                ConfigurationSection ms = toolSec.getConfigurationSection(matKey);
+                if (ms == null) continue;
+                String prefix = toolMaterialPrefix(matKey);
+                for (String typeKey : ms.getKeys(false))
+                    weightTable.put((prefix + "_" + typeKey).toUpperCase(), ms.getDouble(typeKey));
+            }
+        }
+
+        ConfigurationSection weaponSec = cfg.getConfigurationSection("weights.defaults.weapons");
+        if (weaponSec != null) {
+            for (String matKey : weaponSec.getKeys(false)) {
+                ConfigurationSection ms = weaponSec.getConfigurationSection(matKey);
+                if (ms instanceof ConfigurationSection sub) {
+                    String prefix = toolMaterialPrefix(matKey);
+                    for (String typeKey : sub.getKeys(false))
+                        weightTable.put((prefix + "_" + typeKey).toUpperCase(), sub.getDouble(typeKey));
+                } else {
+                    weightTable.put(matKey.toUpperCase(), weaponSec.getDouble(matKey));
+                }
+            }
+        }
+
+        ConfigurationSection miscSec = cfg.getConfigurationSection("weights.defaults.misc");
+        if (miscSec != null) {
+            for (String key : miscSec.getKeys(false))
+                if (!key.equals("fallback"))
+                    weightTable.put(key.toUpperCase(), miscSec.getDouble(key));
+        }
+    }
+
+    private static String armorMaterialPrefix(String key) {
+        return switch (key.toLowerCase()) {
+            case "leather"        -> "LEATHER";
+            case "chainmail"      -> "CHAINMAIL";
+            case "iron"           -> "IRON";
+            case "golden", "gold" -> "GOLDEN";
+            case "diamond"        -> "DIAMOND";
+            case "netherite"      -> "NETHERITE";
+            case "turtle"         -> "TURTLE";
+            default               -> key.toUpperCase();
+        };
+    }
+
+    private static String toolMaterialPrefix(String key) {
+        return switch (key.toLowerCase()) {
+            case "wooden", "wood" -> "WOODEN";
+            case "stone"          -> "STONE";
+            case "iron"           -> "IRON";
+            case "golden", "gold" -> "GOLDEN";
+            case "diamond"        -> "DIAMOND";
+            case "netherite"      -> "NETHERITE";
+            default               -> key.toUpperCase();
+        };
+    }
+
+    private static double toDouble(@Nullable Object o, double def) {
+        return o instanceof Number n ? n.doubleValue() : def;
+    }
+}
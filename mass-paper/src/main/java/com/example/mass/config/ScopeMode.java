@@ -0,0 +1,35 @@
+package com.example.mass.config;
+
+import com.example.mass.service.WeightLedger;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+// Which inventory slots count towards a player's weight, as a WeightLedger slot mask
+public enum ScopeMode {
+    ARMOR_ONLY(WeightLedger.ARMOR_MASK, false),
+    // Armour, offhand and whichever hotbar slot is selected
+    EQUIPPED(WeightLedger.ARMOR_MASK | WeightLedger.OFFHAND_MASK, true),
+    HOTBAR_AND_ARMOR(WeightLedger.HOTBAR_MASK | WeightLedger.ARMOR_MASK | WeightLedger.OFFHAND_MASK, false),
+    EVERYTHING(WeightLedger.ALL_MASK, false);
+
+    private final long    slots;
+    private final boolean heldSlot;
+
+    ScopeMode(long slots, boolean heldSlot) {
+        this.slots    = slots;
+        this.heldSlot = heldSlot;
+    }
+
+    public long mask(@NotNull Player player) {
+        return heldSlot ? slots | WeightLedger.slotBit(player.getInventory().getHeldItemSlot()) : slots;
+    }
+
+    public static @Nullable ScopeMode parse(@Nullable String name) {
+        if (name == null) return null;
+        try { return valueOf(name.trim().toUpperCase(Locale.ROOT)); }
+        catch (IllegalArgumentException ex) { return null; }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.mass.config;
+
+import com.example.mass.core.PenaltyCurve;
+import com.example.mass.core.WeightEngine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// One compiled weight and penalty profile. Index 0 is the global config. Players keep a
+// reference to their profile, so nothing on the update path looks a world up by name.
+// curve is null unless penalties.mode is CURVE.
+public record WorldProfile(@NotNull String name, int index, @NotNull Set<String> worlds,
+                           @NotNull Map<String, Double> overrides, @NotNull WeightEngine engine,
+                           @Nullable PenaltyCurve curve) {
+
+    // Same YAML definition; weights inherited from the global table are compared separately
+    public boolean sameDefinition(@NotNull WorldProfile other) {
+        return name.equals(other.name) && index == other.index && worlds.equals(other.worlds)
+                && overrides.equals(other.overrides) && engine.tiers().equals(other.engine.tiers())
+                && Objects.equals(curve, other.curve);
+    }
+}
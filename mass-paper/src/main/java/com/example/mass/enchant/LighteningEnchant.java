@@ -19,14 +19,33 @@ public final class LighteningEnchant {
     public static final TypedKey<Enchantment> TYPED_KEY =
             TypedKey.create(RegistryKey.ENCHANTMENT, Key.key(NAMESPACE, PATH));
 
+    // Registry handle resolved once; refreshed on reload
+    private static volatile @Nullable Enchantment cached;
+
     private LighteningEnchant() {}
 
     public static @Nullable Enchantment get() {
-        return RegistryAccess.registryAccess().getRegistry(RegistryKey.ENCHANTMENT).get(KEY);
+        Enchantment ench = cached;
+        if (ench == null) {
+            ench = lookup();
+            cached = ench;
+        }
+        return ench;
+    }
+
+    public static void refresh() {
+        cached = lookup();
     }
 
+    // Items without meta can't carry enchantments, and getEnchantmentLevel reads the
+    // enchantment component directly without cloning meta.
     public static int levelOf(@NotNull ItemStack item) {
+        if (!item.hasItemMeta()) return 0;
         Enchantment ench = get();
         return ench == null ? 0 : item.getEnchantmentLevel(ench);
     }
+
+    private static @Nullable Enchantment lookup() {
+        return RegistryAccess.registryAccess().getRegistry(RegistryKey.ENCHANTMENT).get(KEY);
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.mass.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mass.LoreRewrite")
+@Label("Lore Rewrite")
+@Category({"Mass", "Lore"})
+@Description("One updateLore call; unchanged calls are the stamp fast path")
+@StackTrace(false)
+public final class LoreRewriteEvent extends jdk.jfr.Event {
+
+    @Label("Item Type")
+    public String itemType;
+
+    @Label("Changed")
+    public boolean changed;
+}
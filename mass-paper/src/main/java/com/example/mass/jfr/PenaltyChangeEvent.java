@@ -0,0 +1,28 @@
+package com.example.mass.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mass.PenaltyChange")
+@Label("Penalty Change")
+@Category({"Mass", "Encumbrance"})
+@Description("A player's penalty tier changed")
+@StackTrace(false)
+public final class PenaltyChangeEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Old Tier")
+    @Description("Index into penalties.tiers, -1 if none was applied yet")
+    public int oldTier;
+
+    @Label("New Tier")
+    public int newTier;
+
+    @Label("Total Weight")
+    public double totalWeight;
+}
@@ -0,0 +1,27 @@
+package com.example.mass.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mass.VehicleLoad")
+@Label("Vehicle Load")
+@Category({"Mass", "Encumbrance"})
+@Description("Recalculation of a ridden animal's load and speed reduction")
+@StackTrace(false)
+public final class VehicleLoadEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Vehicle Type")
+    public String vehicleType;
+
+    @Label("Load")
+    public double load;
+
+    @Label("Speed Reduction")
+    public double reduction;
+}
@@ -0,0 +1,24 @@
+package com.example.mass.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mass.WeightCompute")
+@Label("Weight Compute")
+@Category({"Mass", "Encumbrance"})
+@Description("Re-read of a player's pending inventory slots into the weight ledger")
+@StackTrace(false)
+public final class WeightComputeEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Slots Scanned")
+    public int slotsScanned;
+
+    @Label("Total Weight")
+    public double totalWeight;
+}
@@ -2,6 +2,7 @@ package com.example.mass.listener;
 
 import com.example.mass.MassPlugin;
 import com.example.mass.enchant.LighteningEnchant;
+import com.example.mass.trace.TraceKind;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -49,8 +50,8 @@ public final class LootListener implements Listener {
         if (!replaced) loot.add(book);
         e.setLoot(loot);
 
-        if (plugin.massConfig().debugLogLootInjection)
-            plugin.getLogger().info("[Loot] Injected Lightening " + level + " book at " + e.getLootContext().getLocation());
+        if (plugin.trace().enabled())
+            plugin.trace().record(TraceKind.LOOT_INJECT, null, level, e.getLootContext().getLocation());
     }
 
     private static ItemStack buildLighteningBook(Enchantment lightening, int level) {
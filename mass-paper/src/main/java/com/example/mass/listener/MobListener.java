@@ -0,0 +1,239 @@
+package com.example.mass.listener;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.example.mass.MassPlugin;
+import com.example.mass.config.MassConfig;
+import com.example.mass.config.WorldProfile;
+import com.example.mass.service.WeightService;
+import io.papermc.paper.event.entity.EntityEquipmentChangedEvent;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class MobListener implements Listener {
+
+    private static final NamespacedKey SPEED_KEY = new NamespacedKey("mass", "mob_speed");
+
+    // Same order as getArmorContents: boots → helmet
+    private static final EquipmentSlot[] ARMOR_SLOTS = {
+        EquipmentSlot.FEET, EquipmentSlot.LEGS, EquipmentSlot.CHEST, EquipmentSlot.HEAD
+    };
+    private static final int  SIGNATURE_CACHE_SIZE = 1024;
+    // Signature of armour containing a PDC weight override; never cached or skipped
+    private static final long UNCACHEABLE          = -1L;
+
+    private final MassPlugin    plugin;
+    private final WeightService weights;
+
+    // Mobs waiting for evaluation in arrival order, drained by flushQueue
+    private final Map<UUID, Mob> pending = new LinkedHashMap<>();
+
+    // Speed multiplier per armour signature (packed material ids), indexed by world profile
+    private final List<Map<Long, Double>> multipliers = new ArrayList<>();
+    // Signature each armoured mob's modifier was last computed from, so unchanged mobs are
+    // skipped. Dropped when the mob leaves its world, so a profile change is never skipped.
+    private final Map<UUID, Long>         appliedSignatures = new HashMap<>();
+    // Both caches are only valid for the config they were built from
+    private MassConfig cachesFor;
+
+    public MobListener(MassPlugin plugin, WeightService weights) {
+        this.plugin  = plugin;
+        this.weights = weights;
+    }
+
+    // Unarmoured mobs never get a modifier, so they are dropped here. The rest wait for
+    // flushQueue on the next tick, once spawner NBT and other equipment is fully applied.
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSpawn(EntitySpawnEvent e) {
+        if (!(e.getEntity() instanceof Mob mob) || mob instanceof Player) return;
+        if (!plugin.massConfig().mobsEnabled || !hasArmor(mob)) return;
+        pending.put(mob.getUniqueId(), mob);
+    }
+
+    // Zombies picking up armour, dispensers, other plugins
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentChanged(EntityEquipmentChangedEvent e) {
+        if (!(e.getEntity() instanceof Mob mob)) return;
+        for (EquipmentSlot slot : e.getEquipmentChanges().keySet()) {
+            if (slot.isArmor()) {
+                pending.put(mob.getUniqueId(), mob);
+                return;
+            }
+        }
+    }
+
+    // Persistent mobs loaded from disk keep their stored modifier but may predate a config change
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent e) {
+        for (Entity entity : e.getEntities()) {
+            if (entity instanceof Mob mob) pending.put(mob.getUniqueId(), mob);
+        }
+    }
+
+    // A mob arriving through a portal may be in another profile's world now
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAdd(EntityAddToWorldEvent e) {
+        if (!(e.getEntity() instanceof Mob mob)) return;
+        MassConfig config = plugin.massConfig();
+        if (config.profiles.size() > 1 && config.mobsEnabled && hasArmor(mob))
+            pending.put(mob.getUniqueId(), mob);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRemove(EntityRemoveFromWorldEvent e) {
+        if (!(e.getEntity() instanceof Mob)) return;
+        UUID id = e.getEntity().getUniqueId();
+        pending.remove(id);
+        appliedSignatures.remove(id);
+    }
+
+    // Re-evaluates every loaded mob, e.g. after enabling or a config reload
+    public void queueLoaded() {
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Mob mob : world.getEntitiesByClass(Mob.class)) pending.put(mob.getUniqueId(), mob);
+        }
+    }
+
+    // Runs every tick. Mobs left over when mobs.per_tick runs out stay queued for the next tick.
+    public void flushQueue() {
+        if (pending.isEmpty()) return;
+        int budget = plugin.massConfig().mobsPerTick;
+        Iterator<Mob> it = pending.values().iterator();
+        for (int processed = 0; it.hasNext() && (budget <= 0 || processed < budget); processed++) {
+            Mob mob = it.next();
+            it.remove();
+            if (mob.isValid()) applyPenalty(mob);
+        }
+    }
+
+    public void applyPenalty(Mob mob) {
+        MassConfig config = plugin.massConfig();
+        UUID id = mob.getUniqueId();
+        if (!config.mobsEnabled || !config.penaltiesEnabled) {
+            appliedSignatures.remove(id);
+            clearModifiers(mob);
+            return;
+        }
+        if (cachesFor != config) {
+            multipliers.clear();
+            for (int i = 0; i < config.profiles.size(); i++) multipliers.add(new HashMap<>());
+            appliedSignatures.clear();
+            cachesFor = config;
+        }
+        WorldProfile      profile = config.profileFor(mob.getWorld());
+        Map<Long, Double> cache   = multipliers.get(profile.index());
+        if (cache.size() > SIGNATURE_CACHE_SIZE) {
+            cache.clear();
+            appliedSignatures.clear();
+        }
+
+        EntityEquipment eq = mob.getEquipment();
+        long signature = eq != null ? signature(eq) : 0L;
+        if (signature == 0L) {
+            // Not tracked: unarmoured mobs are the vast majority and only need any old modifier gone
+            appliedSignatures.remove(id);
+            clearModifiers(mob);
+            return;
+        }
+        if (signature != UNCACHEABLE) {
+            Long previous = appliedSignatures.put(id, signature);
+            if (previous != null && previous == signature) return;
+        } else {
+            appliedSignatures.remove(id);
+        }
+        applySpeedModifier(mob, speedMultiplier(eq, signature, config, profile, cache));
+    }
+
+    // Mobs in the same armour share a multiplier; pieces with a PDC weight override or a damage,
+    // enchantment or potion state that weights.state scales on bypass the cache.
+    private double speedMultiplier(EntityEquipment eq, long signature, MassConfig config,
+                                   WorldProfile profile, Map<Long, Double> cache) {
+        if (signature != UNCACHEABLE) {
+            Double cached = cache.get(signature);
+            if (cached != null) return cached;
+        }
+        double multiplier = config.speedMultiplier(profile, computeArmorWeight(eq, profile));
+        if (signature != UNCACHEABLE) cache.put(signature, multiplier);
+        return multiplier;
+    }
+
+    // Armour material ids + 1 in 16-bit lanes, 0 when unarmoured
+    private long signature(EntityEquipment eq) {
+        long signature = 0L;
+        for (int i = 0; i < ARMOR_SLOTS.length; i++) {
+            ItemStack piece = eq.getItem(ARMOR_SLOTS[i]);
+            if (piece.getType() == Material.AIR) continue;
+            if (!weights.weighsByType(piece)) return UNCACHEABLE;
+            signature |= (long) (piece.getType().ordinal() + 1) << (i * 16);
+        }
+        return signature;
+    }
+
+    private double computeArmorWeight(EntityEquipment eq, WorldProfile profile) {
+        double total = 0.0;
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
+            ItemStack piece = eq.getItem(slot);
+            if (piece.getType() != Material.AIR)
+                total += weights.getBaseWeight(piece, profile);
+        }
+        return total;
+    }
+
+    private static boolean hasArmor(LivingEntity entity) {
+        EntityEquipment eq = entity.getEquipment();
+        if (eq == null) return false;
+        for (EquipmentSlot slot : ARMOR_SLOTS)
+            if (eq.getItem(slot).getType() != Material.AIR) return true;
+        return false;
+    }
+
+    private static void applySpeedModifier(LivingEntity entity, double multiplier) {
+        AttributeInstance attr = entity.getAttribute(Attribute.MOVEMENT_SPEED);
+        if (attr == null) return;
+        removeKey(attr, SPEED_KEY);
+        if (multiplier < 1.0) {
+            attr.addModifier(new AttributeModifier(SPEED_KEY, multiplier - 1.0,
+                    AttributeModifier.Operation.ADD_SCALAR));
+        }
+    }
+
+    public static void clearModifiers(LivingEntity entity) {
+        AttributeInstance speed = entity.getAttribute(Attribute.MOVEMENT_SPEED);
+        if (speed != null) removeKey(speed, SPEED_KEY);
+    }
+
+    private static void removeKey(AttributeInstance attr, NamespacedKey key) {
+        Collection<AttributeModifier> mods = attr.getModifiers();
+        for (AttributeModifier mod : mods) {
+            if (key.equals(mod.getKey())) {
+                attr.removeModifier(mod);
+                return;
+            }
+        }
+    }
+}
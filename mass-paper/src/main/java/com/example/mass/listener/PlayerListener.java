@@ -0,0 +1,294 @@
+package com.example.mass.listener;
+
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import com.destroystokyo.paper.event.player.PlayerJumpEvent;
+import com.example.mass.config.WorldProfile;
+import com.example.mass.service.EncumbranceService;
+import com.example.mass.service.LoreService;
+import com.example.mass.service.WeightLedger;
+import org.bukkit.Material;
+import org.bukkit.entity.AbstractHorse;
+import org.bukkit.entity.ChestBoat;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.EntityShootBowEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerItemDamageEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.player.PlayerToggleSprintEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public final class PlayerListener implements Listener {
+
+    // Views whose input slots aren't backed by a block or entity and empty into the player on close
+    private static final Set<InventoryType> RETURNED_ON_CLOSE = EnumSet.of(
+            InventoryType.CRAFTING, InventoryType.WORKBENCH, InventoryType.ANVIL,
+            InventoryType.ENCHANTING, InventoryType.GRINDSTONE, InventoryType.SMITHING,
+            InventoryType.LOOM, InventoryType.CARTOGRAPHY, InventoryType.STONECUTTER,
+            InventoryType.MERCHANT);
+
+    private final EncumbranceService encumbrance;
+    private final LoreService        lore;
+
+    public PlayerListener(EncumbranceService encumbrance, LoreService lore) {
+        this.encumbrance = encumbrance;
+        this.lore        = lore;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        Player player = e.getPlayer();
+        lore.refreshInventory(player.getInventory(), WeightLedger.PLAYER_MASK, encumbrance.profile(player));
+        encumbrance.scheduleUpdate(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        encumbrance.cleanup(e.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent e) {
+        if (!(e.getWhoClicked() instanceof Player player)) return;
+
+        WorldProfile profile = encumbrance.profile(player);
+        ItemStack current = e.getCurrentItem();
+        if (current != null && current.getType() != Material.AIR && lore.updateLore(current, profile)) {
+            e.setCurrentItem(current);
+        }
+        ItemStack cursor = e.getCursor();
+        if (cursor != null && cursor.getType() != Material.AIR) {
+            lore.updateLore(cursor, profile);
+        }
+
+        markBoatRiders(e.getView());
+        invalidateMount(e.getView());
+        encumbrance.scheduleUpdate(player, clickMask(e));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent e) {
+        if (!(e.getWhoClicked() instanceof Player player)) return;
+        ItemStack old = e.getOldCursor();
+        if (old != null && old.getType() != Material.AIR) lore.updateLore(old, encumbrance.profile(player));
+
+        InventoryView view = e.getView();
+        markBoatRiders(view);
+        invalidateMount(view);
+        long mask = 0L;
+        for (int raw : e.getRawSlots()) {
+            if (view.getInventory(raw) instanceof PlayerInventory)
+                mask |= WeightLedger.slotBit(view.convertSlot(raw));
+        }
+        encumbrance.scheduleUpdate(player, mask);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent e) {
+        if (!(e.getPlayer() instanceof Player player)) return;
+        WorldProfile profile = encumbrance.profile(player);
+        Inventory inv = e.getInventory();
+        for (ItemStack item : inv.getContents()) {
+            if (item != null && item.getType() != Material.AIR) lore.updateLore(item, profile);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent e) {
+        if (!(e.getPlayer() instanceof Player player)) return;
+        // Clicks and drags already marked their slots. Closing only moves items into storage
+        // when a cursor stack or a crafting-style grid has to be handed back.
+        if (returnsItems(e.getView())) encumbrance.scheduleUpdate(player, WeightLedger.STORAGE_MASK);
+        lore.refreshInventory(player.getInventory(), WeightLedger.STORAGE_MASK, encumbrance.profile(player));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent e) {
+        encumbrance.scheduleUpdate(e.getPlayer(),
+                WeightLedger.slotBit(e.getPreviousSlot()) | WeightLedger.slotBit(e.getNewSlot()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwapHand(PlayerSwapHandItemsEvent e) {
+        Player player = e.getPlayer();
+        encumbrance.scheduleUpdate(player, heldMask(player) | WeightLedger.OFFHAND_MASK);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent e) {
+        if (!(e.getEntity() instanceof Player player)) return;
+        ItemStack item = e.getItem().getItemStack();
+        if (lore.updateLore(item, encumbrance.profile(player))) e.getItem().setItemStack(item);
+        // The landing slot isn't known yet; pickups can merge into any storage slot or the offhand
+        encumbrance.scheduleUpdate(player, WeightLedger.STORAGE_MASK | WeightLedger.OFFHAND_MASK);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent e) {
+        // Drops from an open inventory are already covered by the click event
+        Player player = e.getPlayer();
+        encumbrance.scheduleUpdate(player, heldMask(player));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onArmorChange(PlayerArmorChangeEvent e) {
+        ItemStack item = e.getNewItem();
+        if (item != null && item.getType() != Material.AIR) lore.updateLore(item, encumbrance.profile(e.getPlayer()));
+        encumbrance.scheduleUpdate(e.getPlayer(), WeightLedger.armorBit(e.getSlot()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent e) {
+        encumbrance.scheduleUpdate(e.getPlayer(), WeightLedger.handMask(e.getPlayer(), e.getHand()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onConsume(PlayerItemConsumeEvent e) {
+        encumbrance.scheduleUpdate(e.getPlayer(), WeightLedger.handMask(e.getPlayer(), e.getHand()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent e) {
+        encumbrance.scheduleUpdate(e.getPlayer(), WeightLedger.handMask(e.getPlayer(), e.getHand()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent e) {
+        encumbrance.scheduleUpdate(e.getPlayer(), WeightLedger.handMask(e.getPlayer(), e.getHand()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent e) {
+        Player player = e.getPlayer();
+        encumbrance.scheduleUpdate(player,
+                heldMask(player) | WeightLedger.ARMOR_MASK | WeightLedger.OFFHAND_MASK);
+    }
+
+    // Worn items only change weight when weights.state scales by damage
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemDamage(PlayerItemDamageEvent e) {
+        if (!encumbrance.tracksDamage()) return;
+        Player player = e.getPlayer();
+        encumbrance.scheduleUpdate(player,
+                heldMask(player) | WeightLedger.ARMOR_MASK | WeightLedger.OFFHAND_MASK);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onShootBow(EntityShootBowEvent e) {
+        if (!(e.getEntity() instanceof Player player)) return;
+        // Arrows come from anywhere in storage or the offhand
+        encumbrance.scheduleUpdate(player, WeightLedger.STORAGE_MASK | WeightLedger.OFFHAND_MASK);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent e) {
+        encumbrance.forgetApplied(e.getPlayer());
+        encumbrance.scheduleUpdate(e.getPlayer());
+    }
+
+    // Worlds can use different weight profiles
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent e) {
+        Player player = e.getPlayer();
+        encumbrance.changeWorld(player);
+        // Lore shows the weights of the profile the player is in; unchanged stamps skip the rewrite
+        lore.refreshInventory(player.getInventory(), WeightLedger.PLAYER_MASK, encumbrance.profile(player));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent e) {
+        encumbrance.trackMovement(e.getPlayer(), e.getFrom(), e.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent e) {
+        encumbrance.trackMovement(e.getPlayer(), e.getFrom(), e.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+    public void onToggleSprint(PlayerToggleSprintEvent e) {
+        if (e.isSprinting() && encumbrance.isSprintDisabled(e.getPlayer()))
+            e.setCancelled(true);
+    }
+
+    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+    public void onJump(PlayerJumpEvent e) {
+        Player player = e.getPlayer();
+        if (player.isInWater()) return;
+        if (encumbrance.isJumpDisabled(player))
+            e.setCancelled(true);
+    }
+
+    // Maps a click onto the player inventory slots it can touch. Simple pickup/place actions only
+    // change the clicked slot; anything that moves items between inventories marks them all.
+    private static long clickMask(InventoryClickEvent e) {
+        long clicked = e.getClickedInventory() instanceof PlayerInventory
+                ? WeightLedger.slotBit(e.getSlot())
+                : 0L;
+
+        return switch (e.getAction()) {
+            case NOTHING, CLONE_STACK, DROP_ALL_CURSOR, DROP_ONE_CURSOR -> 0L;
+            case PICKUP_ALL, PICKUP_SOME, PICKUP_HALF, PICKUP_ONE,
+                 PLACE_ALL, PLACE_SOME, PLACE_ONE, SWAP_WITH_CURSOR,
+                 DROP_ALL_SLOT, DROP_ONE_SLOT -> clicked;
+            case HOTBAR_SWAP -> {
+                int button = e.getHotbarButton();
+                yield clicked | (button >= 0 ? WeightLedger.slotBit(button) : WeightLedger.OFFHAND_MASK);
+            }
+            default -> WeightLedger.PLAYER_MASK;
+        };
+    }
+
+    // Chest boat cargo counts against its passengers, so any edit to it re-reads their cargo.
+    // getHolder(false) skips the BlockState snapshot Paper would build for block inventories.
+    private void markBoatRiders(InventoryView view) {
+        if (!(view.getTopInventory().getHolder(false) instanceof ChestBoat boat)) return;
+        for (Entity passenger : boat.getPassengers())
+            if (passenger instanceof Player rider)
+                encumbrance.scheduleUpdate(rider, WeightLedger.CARGO_MASK);
+    }
+
+    // Horse, donkey, mule, llama and camel inventories feed the mount's cached cargo weight
+    private void invalidateMount(InventoryView view) {
+        if (view.getTopInventory().getHolder(false) instanceof AbstractHorse mount)
+            encumbrance.invalidateMountCargo(mount);
+    }
+
+    private static boolean returnsItems(InventoryView view) {
+        ItemStack cursor = view.getCursor();
+        if (cursor != null && cursor.getType() != Material.AIR) return true;
+        Inventory top = view.getTopInventory();
+        return RETURNED_ON_CLOSE.contains(top.getType()) && !top.isEmpty();
+    }
+
+    private static long heldMask(Player player) {
+        return WeightLedger.slotBit(player.getInventory().getHeldItemSlot());
+    }
+}
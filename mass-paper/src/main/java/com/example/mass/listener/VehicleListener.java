@@ -3,9 +3,12 @@ package com.example.mass.listener;
 import com.example.mass.MassPlugin;
 import com.example.mass.config.MassConfig;
 import com.example.mass.service.EncumbranceService;
+import com.example.mass.service.WeightLedger;
 import com.example.mass.service.WeightService;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.AbstractHorse;
+import org.bukkit.entity.ChestBoat;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -13,6 +16,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityToggleGlideEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.vehicle.VehicleEnterEvent;
 import org.bukkit.event.vehicle.VehicleExitEvent;
 
@@ -32,6 +36,10 @@ public final class VehicleListener implements Listener {
     public void onMount(VehicleEnterEvent e) {
         if (!(e.getEntered() instanceof Player player)) return;
         Entity vehicle = e.getVehicle();
+        if (vehicle instanceof ChestBoat) {
+            encumbrance.scheduleUpdate(player, WeightLedger.CARGO_MASK);
+            return;
+        }
         if (!(vehicle instanceof LivingEntity) || vehicle instanceof Player) return;
 
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
@@ -49,7 +57,13 @@ public final class VehicleListener implements Listener {
                     () -> encumbrance.removeLivingVehicleModifier(livingVehicle), 1L);
         }
 
-        encumbrance.scheduleUpdate(player);
+        encumbrance.scheduleUpdate(player, WeightLedger.CARGO_MASK);
+    }
+
+    // Saddles, armour, carpets and chests can be put on a mount by right-clicking it
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInteractMount(PlayerInteractEntityEvent e) {
+        if (e.getRightClicked() instanceof AbstractHorse mount) encumbrance.invalidateMountCargo(mount);
     }
 
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
@@ -60,7 +74,7 @@ public final class VehicleListener implements Listener {
         MassConfig cfg = plugin.massConfig();
         if (!cfg.vehicleElytraEnabled) return;
 
-        double weight = weightService.computeTotalWeight(player);
+        double weight = encumbrance.getTotalWeight(player);
         double limit  = cfg.vehicleElytraDisableAbove;
 
         if (weight > limit) {
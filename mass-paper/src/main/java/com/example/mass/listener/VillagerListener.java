@@ -2,6 +2,7 @@ package com.example.mass.listener;
 
 import com.example.mass.MassPlugin;
 import com.example.mass.enchant.LighteningEnchant;
+import com.example.mass.trace.TraceKind;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.AbstractVillager;
 import org.bukkit.event.EventHandler;
@@ -50,8 +51,8 @@ public final class VillagerListener implements Listener {
 
         e.setRecipe(injected);
 
-        if (plugin.massConfig().debugLogLootInjection)
-            plugin.getLogger().info("[VillagerTrade] Injected Lightening " + level + " book for " + e.getEntity().getType());
+        if (plugin.trace().enabled())
+            plugin.trace().record(TraceKind.TRADE_INJECT, null, level, e.getEntity().getLocation());
     }
 
     private static boolean isEnchantedBookTrade(MerchantRecipe recipe) {
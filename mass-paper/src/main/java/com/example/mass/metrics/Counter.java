@@ -0,0 +1,31 @@
+package com.example.mass.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Counter {
+
+    final String family;
+    final String help;
+    final @Nullable String label;
+    final @Nullable String labelValue;
+
+    private final LongAdder value = new LongAdder();
+
+    Counter(@NotNull String family, @NotNull String help, @Nullable String label, @Nullable String labelValue) {
+        this.family     = family;
+        this.help       = help;
+        this.label      = label;
+        this.labelValue = labelValue;
+    }
+
+    public void increment() { value.increment(); }
+    public long get()       { return value.sum(); }
+
+    public @NotNull String family()      { return family; }
+    public @Nullable String labelValue() { return labelValue; }
+
+    void reset() { value.reset(); }
+}
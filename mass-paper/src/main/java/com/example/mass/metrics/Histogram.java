@@ -0,0 +1,83 @@
+package com.example.mass.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Fixed-bucket latency histogram. Recording is a short scan over the bounds plus two
+// striped increments, so it stays on in production.
+public final class Histogram {
+
+    // Upper bucket bounds in nanoseconds; anything slower lands in the implicit +Inf bucket
+    static final long[] BOUNDS = {
+        1_000L, 2_500L, 5_000L, 10_000L, 25_000L, 50_000L, 100_000L, 250_000L,
+        500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 50_000_000L
+    };
+
+    final String family;
+    final String help;
+    final @Nullable String label;
+    final @Nullable String labelValue;
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+    private final LongAdder   sumNanos = new LongAdder();
+
+    Histogram(@NotNull String family, @NotNull String help, @Nullable String label, @Nullable String labelValue) {
+        this.family     = family;
+        this.help       = help;
+        this.label      = label;
+        this.labelValue = labelValue;
+        for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        int i = 0;
+        while (i < BOUNDS.length && nanos > BOUNDS[i]) i++;
+        buckets[i].increment();
+        sumNanos.add(nanos);
+    }
+
+    // Records the time elapsed since a System.nanoTime() reading
+    public void since(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public @NotNull String family()         { return family; }
+    public @Nullable String labelValue()    { return labelValue; }
+
+    public long count() {
+        long n = 0;
+        for (LongAdder b : buckets) n += b.sum();
+        return n;
+    }
+
+    public long sumNanos() { return sumNanos.sum(); }
+
+    // Non-cumulative bucket counts; the last entry is the +Inf bucket
+    long[] snapshot() {
+        long[] out = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) out[i] = buckets[i].sum();
+        return out;
+    }
+
+    // Upper bound of the bucket holding the q-th quantile, or -1 if it fell past the last bound
+    public long quantileBound(double q) {
+        long[] counts = snapshot();
+        long total = 0;
+        for (long c : counts) total += c;
+        if (total == 0) return 0;
+        long target = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) return i < BOUNDS.length ? BOUNDS[i] : -1;
+        }
+        return -1;
+    }
+
+    void reset() {
+        for (LongAdder b : buckets) b.reset();
+        sumNanos.reset();
+    }
+}
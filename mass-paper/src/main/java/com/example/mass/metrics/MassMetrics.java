@@ -0,0 +1,153 @@
+package com.example.mass.metrics;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Counters and timing histograms for the main-thread hot paths. Series are registered at
+// startup; recording only touches LongAdders, so the HTTP exporter can read concurrently.
+public final class MassMetrics {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Listener.class, Event.class);
+
+    private final List<Counter>   counters   = new CopyOnWriteArrayList<>();
+    private final List<Histogram> histograms = new CopyOnWriteArrayList<>();
+
+    public final Counter pdcLookups       = counter("mass_weight_lookups_total", "Base weight lookups by source", "source", "pdc");
+    public final Counter configLookups    = counter("mass_weight_lookups_total", "Base weight lookups by source", "source", "config");
+    public final Counter coalescedUpdates = counter("mass_updates_total", "Penalty updates by outcome", "result", "coalesced");
+    public final Counter executedUpdates  = counter("mass_updates_total", "Penalty updates by outcome", "result", "executed");
+
+    public final Histogram applyPenalty = histogram("mass_apply_penalty_seconds", "Time spent in applyPenalty", null, null);
+    public final Histogram tickWater    = histogram("mass_tick_water_seconds", "Time spent sinking one heavy swimmer", null, null);
+    public final Histogram updateLore   = histogram("mass_update_lore_seconds", "Time spent in updateLore", null, null);
+
+    public @NotNull Counter counter(@NotNull String family, @NotNull String help,
+                                    @Nullable String label, @Nullable String value) {
+        Counter c = new Counter(family, help, label, value);
+        counters.add(c);
+        return c;
+    }
+
+    public @NotNull Histogram histogram(@NotNull String family, @NotNull String help,
+                                        @Nullable String label, @Nullable String value) {
+        Histogram h = new Histogram(family, help, label, value);
+        histograms.add(h);
+        return h;
+    }
+
+    public @NotNull List<Counter>   counters()   { return counters; }
+    public @NotNull List<Histogram> histograms() { return histograms; }
+
+    public void reset() {
+        for (Counter c : counters) c.reset();
+        for (Histogram h : histograms) h.reset();
+    }
+
+    // Registers every @EventHandler of the listener like PluginManager.registerEvents, but
+    // through an executor that times each call into mass_handler_seconds{handler="Class.method"}.
+    public void registerTimed(@NotNull PluginManager pm, @NotNull Listener listener, @NotNull Plugin plugin) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (Method method : listener.getClass().getMethods()) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.getParameterCount() != 1) continue;
+            Class<?> param = method.getParameterTypes()[0];
+            if (!Event.class.isAssignableFrom(param)) continue;
+            Class<? extends Event> eventClass = param.asSubclass(Event.class);
+
+            MethodHandle handle;
+            try {
+                handle = lookup.unreflect(method).asType(HANDLER_TYPE);
+            } catch (IllegalAccessException ex) {
+                plugin.getLogger().warning("Could not time " + method + ": " + ex.getMessage());
+                continue;
+            }
+            Histogram timer = histogram("mass_handler_seconds", "Time spent in event handlers", "handler",
+                    listener.getClass().getSimpleName() + "." + method.getName());
+
+            pm.registerEvent(eventClass, listener, annotation.priority(), (l, event) -> {
+                // Handler lists are shared with subclasses that don't declare their own
+                if (!eventClass.isInstance(event)) return;
+                long start = System.nanoTime();
+                try {
+                    handle.invokeExact(l, event);
+                } catch (Throwable t) {
+                    throw new EventException(t);
+                } finally {
+                    timer.since(start);
+                }
+            }, plugin, annotation.ignoreCancelled());
+        }
+    }
+
+    // Prometheus text exposition format, version 0.0.4
+    public @NotNull String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+        String family = null;
+        for (Counter c : counters) {
+            if (!c.family.equals(family)) {
+                family = c.family;
+                header(out, family, c.help, "counter");
+            }
+            out.append(family);
+            labels(out, c.label, c.labelValue, null);
+            out.append(' ').append(c.get()).append('\n');
+        }
+        family = null;
+        for (Histogram h : histograms) {
+            if (!h.family.equals(family)) {
+                family = h.family;
+                header(out, family, h.help, "histogram");
+            }
+            long[] counts = h.snapshot();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                String le = i < Histogram.BOUNDS.length ? seconds(Histogram.BOUNDS[i]) : "+Inf";
+                out.append(family).append("_bucket");
+                labels(out, h.label, h.labelValue, le);
+                out.append(' ').append(cumulative).append('\n');
+            }
+            out.append(family).append("_sum");
+            labels(out, h.label, h.labelValue, null);
+            out.append(' ').append(seconds(h.sumNanos())).append('\n');
+            out.append(family).append("_count");
+            labels(out, h.label, h.labelValue, null);
+            out.append(' ').append(cumulative).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String family, String help, String type) {
+        out.append("# HELP ").append(family).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(family).append(' ').append(type).append('\n');
+    }
+
+    private static void labels(StringBuilder out, @Nullable String label, @Nullable String value, @Nullable String le) {
+        if (label == null && le == null) return;
+        out.append('{');
+        if (label != null) out.append(label).append("=\"").append(value).append('"');
+        if (le != null) {
+            if (label != null) out.append(',');
+            out.append("le=\"").append(le).append('"');
+        }
+        out.append('}');
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.mass.service;
+
+import com.example.mass.config.MassConfig;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+// What a reload actually changed, so only the affected players and slots are refreshed
+public final class ConfigDiff {
+
+    // Lore layout, scope, a weight modifier or a world profile changed: every slot may weigh
+    // or render differently
+    public final boolean full;
+    // Tiers or another penalty setting changed: every penalty is re-evaluated from the ledger total
+    public final boolean penalties;
+    // Material ordinals whose compiled weight changed, plus shulker boxes and bundles when any did
+    public final BitSet  materials;
+
+    private ConfigDiff(boolean full, boolean penalties, @NotNull BitSet materials) {
+        this.full      = full;
+        this.penalties = penalties;
+        this.materials = materials;
+    }
+
+    public static @NotNull ConfigDiff of(@NotNull MassConfig before, @NotNull MassConfig after) {
+        boolean full = before.loreEnabled != after.loreEnabled
+                || before.loreGeneration != after.loreGeneration
+                || before.scopeMode != after.scopeMode
+                || before.containersEnabled != after.containersEnabled
+                || before.containersMaxDepth != after.containersMaxDepth
+                || before.stateEnabled != after.stateEnabled
+                || before.stateDamagedMultiplier != after.stateDamagedMultiplier
+                || before.statePerEnchantment != after.statePerEnchantment
+                || before.statePerPotionEffect != after.statePerPotionEffect
+                || before.lighteningEnabled != after.lighteningEnabled
+                || !before.engine.lightening().equals(after.engine.lightening())
+                || !before.sameProfiles(after);
+
+        boolean penalties = !before.engine.tiers().equals(after.engine.tiers())
+                || !Objects.equals(before.defaultProfile.curve(), after.defaultProfile.curve())
+                || before.penaltiesEnabled != after.penaltiesEnabled
+                || before.disableSprintAbove != after.disableSprintAbove
+                || before.waterSinkAbove != after.waterSinkAbove
+                || before.vehicleHorsesEnabled != after.vehicleHorsesEnabled
+                || before.vehicleSpeedReductionPerKg != after.vehicleSpeedReductionPerKg
+                || before.vehicleMaxReduction != after.vehicleMaxReduction
+                || before.vehicleElytraEnabled != after.vehicleElytraEnabled
+                || before.vehicleElytraDisableAbove != after.vehicleElytraDisableAbove;
+
+        BitSet materials = before.engine.weights().diff(after.engine.weights());
+        // Container weight is the sum of its contents, whichever of them changed
+        if (!materials.isEmpty() && after.containersEnabled) ContainerWeights.addHolders(materials);
+        return new ConfigDiff(full, penalties, materials);
+    }
+
+    public boolean isEmpty() {
+        return !full && !penalties && materials.isEmpty();
+    }
+
+    // Slot mask to refresh per player. A zero mask only re-runs the penalty from the ledger total.
+    public @NotNull Map<UUID, Long> affectedSlots(@NotNull Collection<? extends Player> online,
+                                                  @NotNull EncumbranceService encumbrance) {
+        Map<UUID, Long> masks = new LinkedHashMap<>();
+        if (full) {
+            for (Player player : online) masks.put(player.getUniqueId(), WeightLedger.ALL_MASK);
+            return masks;
+        }
+        if (penalties) {
+            for (Player player : online) masks.put(player.getUniqueId(), 0L);
+        }
+        encumbrance.slotsHolding(materials).forEach((id, mask) -> masks.merge(id, mask, (a, b) -> a | b));
+        return masks;
+    }
+}
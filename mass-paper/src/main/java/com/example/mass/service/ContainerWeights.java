@@ -0,0 +1,80 @@
+package com.example.mass.service;
+
+import com.example.mass.config.WorldProfile;
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.datacomponent.item.BundleContents;
+import io.papermc.paper.datacomponent.item.ItemContainerContents;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Weight of the items stored inside shulker boxes and bundles.
+// Results are memoized by the contents component itself: its hash is the vanilla content
+// digest, and equals compares the stacks, so a changed box simply misses the cache.
+@SuppressWarnings("UnstableApiUsage")
+final class ContainerWeights {
+
+    // Shulker boxes and bundles: the only items survival players can fill and carry.
+    // Everything else skips the component lookups entirely.
+    private static final BitSet HOLDERS = holders();
+
+    private final WeightService         weights;
+    private final WorldProfile          profile;
+    private final LruCache<Key, Double> memo;
+    private final int                   maxDepth;
+
+    // Holder ordinals, for callers that invalidate by material
+    static void addHolders(@NotNull BitSet materials) {
+        materials.or(HOLDERS);
+    }
+
+    // One instance per profile, since the contents are weighed with that profile's table
+    ContainerWeights(@NotNull WeightService weights, @NotNull WorldProfile profile, int maxDepth, int cacheSize) {
+        this.weights  = weights;
+        this.profile  = profile;
+        this.maxDepth = maxDepth;
+        this.memo     = new LruCache<>(cacheSize);
+    }
+
+    // Only called for stacks with a component patch; plain stacks have no contents.
+    double contentsWeight(@NotNull ItemStack item, int depth) {
+        if (depth >= maxDepth || !HOLDERS.get(item.getType().ordinal())) return 0.0;
+
+        ItemContainerContents container = item.getData(DataComponentTypes.CONTAINER);
+        if (container != null) return memoized(container, depth, container::contents);
+
+        BundleContents bundle = item.getData(DataComponentTypes.BUNDLE_CONTENTS);
+        if (bundle != null) return memoized(bundle, depth, bundle::contents);
+
+        return 0.0;
+    }
+
+    // The stack list is only materialized on a miss
+    private double memoized(Object contents, int depth, Supplier<List<ItemStack>> items) {
+        Key key = new Key(contents, depth);
+        Double cached = memo.get(key);
+        if (cached != null) return cached;
+
+        double total = 0.0;
+        for (ItemStack inner : items.get()) {
+            total += weights.baseWeight(inner, depth + 1, profile) * inner.getAmount();
+        }
+        memo.put(key, total);
+        return total;
+    }
+
+    private static BitSet holders() {
+        BitSet set = new BitSet();
+        for (Material m : Tag.SHULKER_BOXES.getValues()) set.set(m.ordinal());
+        for (Material m : Tag.ITEMS_BUNDLES.getValues()) set.set(m.ordinal());
+        return set;
+    }
+
+    // Remaining depth changes the result, so it is part of the key
+    private record Key(Object contents, int depth) {}
+}
@@ -0,0 +1,462 @@
+package com.example.mass.service;
+
+import com.example.mass.MassPlugin;
+import com.example.mass.api.EncumbranceSnapshot;
+import com.example.mass.api.PlayerEncumbranceChangeEvent;
+import com.example.mass.config.MassConfig;
+import com.example.mass.config.WorldProfile;
+import com.example.mass.core.PenaltyCurve;
+import com.example.mass.core.PenaltyTier;
+import com.example.mass.core.TierTable;
+import com.example.mass.jfr.PenaltyChangeEvent;
+import com.example.mass.jfr.VehicleLoadEvent;
+import com.example.mass.metrics.MassMetrics;
+import com.example.mass.trace.TraceBuffer;
+import com.example.mass.trace.TraceKind;
+import org.bukkit.Material;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.AbstractHorse;
+import org.bukkit.entity.ChestedHorse;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class EncumbranceService {
+
+    private static final NamespacedKey JUMP_KEY  = new NamespacedKey("mass", "encumbrance_jump");
+    private static final NamespacedKey HORSE_KEY = new NamespacedKey("mass", "horse_load");
+
+    private final MassPlugin     plugin;
+    private       MassConfig     config;
+    private final WeightService  weightService;
+    private final WeightLedger   ledger;
+    private final MassMetrics    metrics;
+    private final TraceBuffer    trace;
+    private final MassApiService api;
+
+    // Players waiting for applyPenalty, drained in insertion order by flushUpdates
+    private final Map<UUID, Player> dirty = new LinkedHashMap<>();
+
+    // Players over water.sink_above whose mid-body is in water; the only ones tickSinking touches
+    private final Map<UUID, Player> sinking = new HashMap<>();
+
+    // Saddle, armour and chest weight of each ridden horse-type mount under its rider's profile,
+    // dropped when its inventory changes, its rider leaves or the profile may have changed
+    private final Map<UUID, Double> mountCargo = new HashMap<>();
+
+    // Last values actually sent to each player, so unchanged runs skip the Bukkit calls
+    private final Map<UUID, AppliedState> applied = new HashMap<>();
+
+    public EncumbranceService(@NotNull MassPlugin plugin, @NotNull WeightService weightService) {
+        this.plugin        = plugin;
+        this.config        = plugin.massConfig();
+        this.weightService = weightService;
+        this.trace         = plugin.trace();
+        this.ledger        = new WeightLedger(weightService, trace);
+        ledger.setScope(config.scopeMode);
+        ledger.setProfiles(config);
+        this.metrics       = plugin.metrics();
+        this.api           = plugin.api();
+    }
+
+    public void reloadConfig() {
+        this.config = plugin.massConfig();
+        ledger.setScope(config.scopeMode);
+        ledger.setProfiles(config);
+        mountCargo.clear();
+    }
+
+    // Profiles are per world, so a world change may swap every weight and tier
+    public void changeWorld(@NotNull Player player) {
+        ledger.changeWorld(player);
+        Entity vehicle = player.getVehicle();
+        if (vehicle != null) mountCargo.remove(vehicle.getUniqueId());
+        scheduleUpdate(player, 0L);
+    }
+
+    public @NotNull WorldProfile profile(@NotNull Player player) {
+        return ledger.profile(player);
+    }
+
+    public void scheduleUpdate(@NotNull Player player) {
+        scheduleUpdate(player, WeightLedger.ALL_MASK);
+    }
+
+    // Only the slots in the mask are re-read when the update runs; everything else keeps
+    // its ledger contribution.
+    public void scheduleUpdate(@NotNull Player player, long slotMask) {
+        // Changes confined to slots outside scope.mode can't move the total
+        if (slotMask != 0L && (slotMask & config.scopeMode.mask(player)) == 0L) return;
+        ledger.mark(player, slotMask);
+        if (dirty.putIfAbsent(player.getUniqueId(), player) != null) metrics.coalescedUpdates.increment();
+    }
+
+    // Runs every tick. Players left over when the budget runs out stay queued for the next tick.
+    public void flushUpdates() {
+        if (dirty.isEmpty()) return;
+
+        // Taken out of the queue before applying: PlayerEncumbranceChangeEvent listeners may
+        // schedule updates of their own, which then land in the next flush
+        int budget = config.updatesPerTick;
+        List<Player> batch = new ArrayList<>(budget > 0 ? Math.min(budget, dirty.size()) : dirty.size());
+        Iterator<Player> it = dirty.values().iterator();
+        while (it.hasNext() && (budget <= 0 || batch.size() < budget)) {
+            batch.add(it.next());
+            it.remove();
+        }
+        for (Player player : batch) {
+            if (!player.isOnline()) continue;
+            applyPenalty(player);
+            metrics.executedUpdates.increment();
+        }
+    }
+
+    public int pendingUpdates() { return dirty.size(); }
+
+    // Ledger slots currently holding any of the materials, per player; see WeightLedger.slotsHolding
+    public @NotNull Map<UUID, Long> slotsHolding(@NotNull BitSet materials) {
+        return ledger.slotsHolding(materials);
+    }
+
+    public void cleanup(@NotNull Player player) {
+        dirty.remove(player.getUniqueId());
+        sinking.remove(player.getUniqueId());
+        applied.remove(player.getUniqueId());
+        api.remove(player.getUniqueId());
+        ledger.remove(player);
+        removeModifiers(player);
+    }
+
+    // Forces the next update to resend everything, e.g. after respawn resets the player entity.
+    public void forgetApplied(@NotNull Player player) {
+        applied.remove(player.getUniqueId());
+    }
+
+    // Periodic safety net for inventory changes no listener saw (commands, other plugins).
+    public int verifyLedger() {
+        int corrected = 0;
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (ledger.verify(player)) {
+                corrected++;
+                trace.record(TraceKind.LEDGER_RESYNC, player.getUniqueId(), 0, 0, ledger.total(player));
+                scheduleUpdate(player, 0L);
+            }
+        }
+        return corrected;
+    }
+
+    public void applyPenalty(@NotNull Player player) {
+        long start = System.nanoTime();
+        try {
+            doApplyPenalty(player);
+        } finally {
+            metrics.applyPenalty.since(start);
+        }
+    }
+
+    private void doApplyPenalty(@NotNull Player player) {
+        AppliedState state = applied.computeIfAbsent(player.getUniqueId(), id -> new AppliedState());
+        // Always re-read marked slots: sprint, elytra, /mass info and the API read the total
+        // even when penalties are off
+        double totalWeight = ledger.refresh(player);
+        if (!config.penaltiesEnabled) {
+            applySpeedModifier(player, state, 1.0);
+            applyJumpModifier(player, state, 1.0);
+            state.tierIndex = -1;
+            publish(player, totalWeight, ledger.profile(player), -1, 1.0, 1.0);
+            return;
+        }
+
+        if (totalWeight > config.waterSinkAbove) updateSinking(player, player.getLocation(), totalWeight);
+        else if (!sinking.isEmpty()) sinking.remove(player.getUniqueId());
+        WorldProfile profile = ledger.profile(player);
+        TierTable tiers = profile.engine().tiers();
+        int previousTier = state.tierIndex;
+        state.tierIndex = tiers.resolveIndex(totalWeight, previousTier);
+        PenaltyTier tier = tiers.get(state.tierIndex);
+
+        Entity vehicle = player.getVehicle();
+        boolean onLivingVehicle = vehicle instanceof LivingEntity && !(vehicle instanceof Player);
+
+        // The curve table is quantized, so small weight changes map to the same multiplier
+        // and the change checks in apply*Modifier still skip the packet
+        PenaltyCurve curve = profile.curve();
+        double speed = curve != null ? curve.speed(totalWeight) : tier.speedMultiplier();
+        double jump  = curve != null ? curve.jump(totalWeight)  : tier.jumpMultiplier();
+
+        if (onLivingVehicle) {
+            // While mounted the vehicle's attribute controls movement speed.
+            // Reset the player's own modifiers so they don't compound with it.
+            applySpeedModifier(player, state, 1.0);
+            applyJumpModifier(player, state, 1.0);
+            applyLivingVehiclePenalty(player, (LivingEntity) vehicle, totalWeight);
+        } else {
+            state.horse = null;
+            applySpeedModifier(player, state, speed);
+            applyJumpModifier(player, state, jump);
+
+            double sprintThreshold = config.disableSprintAbove;
+            if (sprintThreshold > 0 && totalWeight > sprintThreshold && player.isSprinting()) {
+                player.setSprinting(false);
+            }
+        }
+
+        if (previousTier != state.tierIndex) {
+            PenaltyChangeEvent event = new PenaltyChangeEvent();
+            if (event.shouldCommit()) {
+                event.player      = player.getName();
+                event.oldTier     = previousTier;
+                event.newTier     = state.tierIndex;
+                event.totalWeight = totalWeight;
+                event.commit();
+            }
+            trace.record(TraceKind.PENALTY_CHANGE, player.getUniqueId(), previousTier, state.tierIndex, totalWeight);
+        }
+        publish(player, totalWeight, profile, state.tierIndex, speed, jump);
+    }
+
+    // Publishes the player's state for MassAPI readers and fires PlayerEncumbranceChangeEvent
+    // when the tier or a restriction moved. Runs at most once per player per tick.
+    private void publish(@NotNull Player player, double totalWeight, @NotNull WorldProfile profile,
+                         int tierIndex, double speed, double jump) {
+        double sprintLimit = config.disableSprintAbove;
+        EncumbranceSnapshot snapshot = new EncumbranceSnapshot(
+                player.getUniqueId(),
+                totalWeight,
+                ledger.sum(player, WeightLedger.ARMOR_MASK),
+                ledger.sum(player, WeightLedger.handMask(player, EquipmentSlot.HAND) | WeightLedger.OFFHAND_MASK),
+                ledger.sum(player, WeightLedger.STORAGE_MASK),
+                ledger.sum(player, WeightLedger.CARGO_MASK),
+                profile.name(),
+                tierIndex,
+                speed,
+                jump,
+                config.penaltiesEnabled && sprintLimit > 0 && totalWeight > sprintLimit,
+                config.penaltiesEnabled && jump <= 0.0,
+                config.vehicleElytraEnabled && totalWeight > config.vehicleElytraDisableAbove);
+
+        EncumbranceSnapshot previous = api.publish(snapshot);
+        if (previous != null && previous.sameState(snapshot)) return;
+        if (PlayerEncumbranceChangeEvent.getHandlerList().getRegisteredListeners().length == 0) return;
+        plugin.getServer().getPluginManager().callEvent(new PlayerEncumbranceChangeEvent(player, previous, snapshot));
+    }
+
+    public void applyLivingVehiclePenalty(@NotNull Player player, @NotNull LivingEntity vehicle, double riderWeight) {
+        if (!config.vehicleHorsesEnabled) return;
+
+        VehicleLoadEvent event = new VehicleLoadEvent();
+        event.begin();
+        double load = riderWeight + cargoWeight(vehicle, ledger.profile(player));
+
+        double reduction = Math.min(config.vehicleMaxReduction, load * config.vehicleSpeedReductionPerKg);
+        if (event.shouldCommit()) {
+            event.player      = player.getName();
+            event.vehicleType = vehicle.getType().name();
+            event.load        = load;
+            event.reduction   = reduction;
+            event.commit();
+        }
+
+        AppliedState state = applied.computeIfAbsent(player.getUniqueId(), id -> new AppliedState());
+        UUID vehicleId = vehicle.getUniqueId();
+        if (vehicleId.equals(state.horse) && reduction == state.horseReduction) return;
+
+        AttributeInstance attr = vehicle.getAttribute(Attribute.MOVEMENT_SPEED);
+        if (attr == null) return;
+        removeKey(attr, HORSE_KEY);
+        if (reduction > 0) {
+            attr.addModifier(new AttributeModifier(HORSE_KEY, -reduction,
+                    AttributeModifier.Operation.ADD_SCALAR));
+        }
+        state.horse          = vehicleId;
+        state.horseReduction = reduction;
+    }
+
+    // Called before the mount's inventory changes; its riders are re-evaluated next tick
+    public void invalidateMountCargo(@NotNull AbstractHorse mount) {
+        mountCargo.remove(mount.getUniqueId());
+        for (Entity passenger : mount.getPassengers())
+            if (passenger instanceof Player rider) scheduleUpdate(rider, 0L);
+    }
+
+    // Saddle, armour/decor and chest contents for all horse-type animals, weighed by the rider's profile
+    private double cargoWeight(@NotNull LivingEntity vehicle, @NotNull WorldProfile profile) {
+        if (!(vehicle instanceof AbstractHorse mount)) return 0.0;
+        Double cached = mountCargo.get(mount.getUniqueId());
+        if (cached != null) return cached;
+
+        double weight = 0.0;
+        for (ItemStack item : mount.getInventory().getContents()) {
+            if (item != null && item.getType() != Material.AIR) {
+                weight += weightService.getBaseWeight(item, profile) * item.getAmount();
+            }
+        }
+        mountCargo.put(mount.getUniqueId(), weight);
+        return weight;
+    }
+
+    public void removeLivingVehicleModifier(@NotNull LivingEntity vehicle) {
+        mountCargo.remove(vehicle.getUniqueId());
+        AttributeInstance attr = vehicle.getAttribute(Attribute.MOVEMENT_SPEED);
+        if (attr != null) removeKey(attr, HORSE_KEY);
+    }
+
+    // Called for every move. Only heavy players that crossed a block boundary at mid-body
+    // height get a block lookup; everyone else returns after one ledger read.
+    public void trackMovement(@NotNull Player player, @NotNull Location from, @NotNull Location to) {
+        double weight = ledger.total(player);
+        if (weight <= config.waterSinkAbove) {
+            if (!sinking.isEmpty()) sinking.remove(player.getUniqueId());
+            return;
+        }
+        if (from.getWorld() == to.getWorld()
+                && from.getBlockX() == to.getBlockX()
+                && from.getBlockZ() == to.getBlockZ()
+                && midBodyY(from) == midBodyY(to)) return;
+        updateSinking(player, to, weight);
+    }
+
+    public void tickSinking() {
+        if (sinking.isEmpty()) return;
+        Iterator<Player> it = sinking.values().iterator();
+        while (it.hasNext()) {
+            Player player = it.next();
+            // Water can drain or flow away without the player crossing a block
+            if (!player.isOnline()) { it.remove(); continue; }
+            long start = System.nanoTime();
+            boolean stillSinking = tickWater(player);
+            metrics.tickWater.since(start);
+            if (!stillSinking) it.remove();
+        }
+    }
+
+    private void updateSinking(@NotNull Player player, @NotNull Location at, double weight) {
+        if (weight > config.waterSinkAbove && isMidBodyInWater(at)) sinking.put(player.getUniqueId(), player);
+        else if (!sinking.isEmpty()) sinking.remove(player.getUniqueId());
+    }
+
+    // Returns false once the player no longer qualifies for sinking.
+    private boolean tickWater(@NotNull Player player) {
+        double weight = ledger.total(player);
+        if (weight <= config.waterSinkAbove) return false;
+
+        // Require mid-body to be in water to avoid triggering at shallow edges
+        if (!isMidBodyInWater(player.getLocation())) return false;
+
+        // ratio: 0 = just over threshold, 1 = double the threshold, capped at 4
+        double ratio = Math.min(4.0, (weight - config.waterSinkAbove) / config.waterSinkAbove);
+
+        Vector vel = player.getVelocity();
+
+        // At low excess allow slight swim-up; at high excess clamp to 0 (can't surface)
+        double maxUp = Math.max(0.0, 0.10 - ratio * 0.03);
+        if (vel.getY() > maxUp) vel.setY(maxUp);
+
+        // Downward pull and terminal sink speed both scale with how overloaded the player is
+        double pullPerCall = 0.025 + ratio * 0.035;
+        double sinkCap     = config.waterSinkSpeed * (1.0 + ratio * 0.75);
+        double newY = Math.max(-sinkCap, vel.getY() - pullPerCall);
+        vel.setY(newY);
+        player.setVelocity(vel);
+        return true;
+    }
+
+    private static boolean isMidBodyInWater(@NotNull Location at) {
+        return at.getWorld().getBlockAt(at.getBlockX(), midBodyY(at), at.getBlockZ()).getType() == Material.WATER;
+    }
+
+    private static int midBodyY(@NotNull Location at) {
+        return (int) Math.floor(at.getY() + 0.6);
+    }
+
+    public boolean isSprintDisabled(@NotNull Player player) {
+        double threshold = config.disableSprintAbove;
+        if (threshold <= 0) return false;
+        return ledger.total(player) > threshold;
+    }
+
+    public boolean isJumpDisabled(@NotNull Player player) {
+        WorldProfile profile = ledger.profile(player);
+        PenaltyCurve curve = profile.curve();
+        if (curve != null) return curve.jump(ledger.total(player)) <= 0.0;
+        AppliedState state = applied.get(player.getUniqueId());
+        TierTable tiers = profile.engine().tiers();
+        PenaltyTier tier = state != null && state.tierIndex >= 0 && state.tierIndex < tiers.size()
+                ? tiers.get(state.tierIndex)
+                : tiers.get(tiers.resolveIndex(ledger.total(player)));
+        return tier.jumpMultiplier() <= 0.0;
+    }
+
+    public boolean tracksDamage() {
+        return config.stateEnabled && config.stateDamagedMultiplier != 1.0;
+    }
+
+    public double getTotalWeight(@NotNull Player player) {
+        return ledger.total(player);
+    }
+
+    private static void applySpeedModifier(@NotNull Player player, @NotNull AppliedState state, double multiplier) {
+        // setWalkSpeed only updates the abilities packet, leaving the generic.movement_speed
+        // attribute at its base value. The client FOV formula reads the attribute, so FOV
+        // stays unchanged while the player's actual walking speed is correctly reduced.
+        float speed = multiplier >= 1.0 ? 0.2f : (float) Math.max(0.02, 0.2 * multiplier);
+        if (speed == state.walkSpeed) return;
+        player.setWalkSpeed(speed);
+        state.walkSpeed = speed;
+    }
+
+    private static void applyJumpModifier(@NotNull Player player, @NotNull AppliedState state, double multiplier) {
+        double clamped = Math.min(1.0, multiplier);
+        if (clamped == state.jumpMultiplier) return;
+        AttributeInstance attr = player.getAttribute(Attribute.JUMP_STRENGTH);
+        if (attr == null) return;
+        removeKey(attr, JUMP_KEY);
+        if (clamped < 1.0) {
+            attr.addModifier(new AttributeModifier(JUMP_KEY, clamped - 1.0,
+                    AttributeModifier.Operation.ADD_SCALAR));
+        }
+        state.jumpMultiplier = clamped;
+    }
+
+    private static void removeModifiers(@NotNull Player player) {
+        player.setWalkSpeed(0.2f);
+        AttributeInstance jump = player.getAttribute(Attribute.JUMP_STRENGTH);
+        if (jump != null) removeKey(jump, JUMP_KEY);
+    }
+
+    private static void removeKey(@NotNull AttributeInstance attr, @NotNull NamespacedKey key) {
+        Collection<AttributeModifier> mods = attr.getModifiers();
+        for (AttributeModifier mod : mods) {
+            if (key.equals(mod.getKey())) {
+                attr.removeModifier(mod);
+                return;
+            }
+        }
+    }
+
+    private static final class AppliedState {
+        float  walkSpeed      = Float.NaN;
+        double jumpMultiplier = Double.NaN;
+        int    tierIndex      = -1;
+        UUID   horse;
+        double horseReduction = Double.NaN;
+    }
+}
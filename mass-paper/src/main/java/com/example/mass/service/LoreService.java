@@ -0,0 +1,196 @@
+package com.example.mass.service;
+
+import com.example.mass.MassPlugin;
+import com.example.mass.config.MassConfig;
+import com.example.mass.config.WorldProfile;
+import com.example.mass.jfr.LoreRewriteEvent;
+import com.example.mass.metrics.MassMetrics;
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("UnstableApiUsage")
+public final class LoreService {
+
+    private static final String WEIGHT_PREFIX    = "Weight: ";
+    private static final String EFFECTIVE_PREFIX = "Effective: ";
+
+    // Packed (lore generation, weight, effective weight) that produced an item's current lore
+    public static final NamespacedKey PDC_LORE_STAMP = new NamespacedKey("mass", "lore");
+
+    private static final int  QUANT_MAX       = (1 << 24) - 1;
+    private static final int  LINE_CACHE_SIZE = 4096;
+
+    private final MassPlugin    plugin;
+    private       MassConfig    config;
+    private final WeightService weightService;
+    private final MassMetrics   metrics;
+
+    // Rendered lines keyed by weight in tenths of a kg, rebuilt on reload
+    private final Map<Integer, Component> weightLines    = new HashMap<>();
+    private final Map<Integer, Component> effectiveLines = new HashMap<>();
+
+    public LoreService(@NotNull MassPlugin plugin, @NotNull WeightService weightService) {
+        this.plugin        = plugin;
+        this.config        = plugin.massConfig();
+        this.weightService = weightService;
+        this.metrics       = plugin.metrics();
+    }
+
+    public void reloadConfig() {
+        this.config = plugin.massConfig();
+        weightLines.clear();
+        effectiveLines.clear();
+    }
+
+    // Renders the global profile's weights; see the profile overload for held items
+    public boolean updateLore(@NotNull ItemStack item) {
+        return updateLore(item, config.defaultProfile);
+    }
+
+    // Renders the weights the holder's profile charges. Returns true if the item was modified.
+    public boolean updateLore(@NotNull ItemStack item, @NotNull WorldProfile profile) {
+        long start = System.nanoTime();
+        LoreRewriteEvent event = new LoreRewriteEvent();
+        event.begin();
+        boolean changed = false;
+        try {
+            changed = doUpdateLore(item, profile);
+            return changed;
+        } finally {
+            metrics.updateLore.since(start);
+            if (event.shouldCommit()) {
+                event.itemType = item.getType().name();
+                event.changed  = changed;
+                event.commit();
+            }
+        }
+    }
+
+    private boolean doUpdateLore(@NotNull ItemStack item, @NotNull WorldProfile profile) {
+        if (!config.loreEnabled) return false;
+        if (item.getType() == Material.AIR) return false;
+        // Stackable items must never carry weight lore — it makes them unable to merge with
+        // clean items of the same type and breaks furnace stacking. Actively scrub any
+        // leftover weight lore so pre-tagged items become stackable again.
+        if (item.getType().getMaxStackSize() > 1) {
+            return clearLore(item);
+        }
+
+        int    amount    = item.getAmount();
+        int    base      = quantize(weightService.getBaseWeight(item, profile)      * amount);
+        int    effective = quantize(weightService.getEffectiveWeight(item, profile) * amount);
+        long   stamp     = stamp(config.loreGeneration, base, effective);
+
+        // Already rendered from the same numbers and formats: nothing to rewrite
+        if (item.hasItemMeta()) {
+            Long current = item.getPersistentDataContainer().get(PDC_LORE_STAMP, PersistentDataType.LONG);
+            if (current != null && current == stamp) return false;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return false;
+
+        List<Component> lore = new ArrayList<>(meta.lore() != null ? meta.lore() : List.of());
+
+        Component weightLine = weightLines.computeIfAbsent(base,
+                q -> buildLine(config.loreWeightFormat, "{weight}", q));
+        int idx = findLine(lore, WEIGHT_PREFIX);
+        if (idx >= 0) lore.set(idx, weightLine);
+        else          lore.add(0, weightLine);
+
+        if (config.loreEffectiveEnabled && effective != base) {
+            Component effLine = effectiveLines.computeIfAbsent(effective,
+                    q -> buildLine(config.loreEffectiveFormat, "{effective}", q));
+            int effIdx = findLine(lore, EFFECTIVE_PREFIX);
+            if (effIdx >= 0) lore.set(effIdx, effLine);
+            else             lore.add(findLine(lore, WEIGHT_PREFIX) + 1, effLine);
+        } else {
+            lore.removeIf(c -> plain(c).startsWith(EFFECTIVE_PREFIX));
+        }
+
+        meta.lore(lore);
+        meta.getPersistentDataContainer().set(PDC_LORE_STAMP, PersistentDataType.LONG, stamp);
+        item.setItemMeta(meta);
+
+        if (weightLines.size() > LINE_CACHE_SIZE)    weightLines.clear();
+        if (effectiveLines.size() > LINE_CACHE_SIZE) effectiveLines.clear();
+        return true;
+    }
+
+    // Updates lore for the player inventory slots in the mask and writes back only the slots
+    // whose item actually changed. Returns the number of slots written.
+    public int refreshInventory(@NotNull PlayerInventory inv, long slotMask, @NotNull WorldProfile profile) {
+        if (!config.loreEnabled) return 0;
+        int written = 0;
+        for (long mask = slotMask & WeightLedger.PLAYER_MASK; mask != 0; mask &= mask - 1) {
+            int slot = Long.numberOfTrailingZeros(mask);
+            ItemStack item = inv.getItem(slot);
+            if (item == null || item.getType() == Material.AIR) continue;
+            if (updateLore(item, profile)) {
+                inv.setItem(slot, item);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    // Returns true if the item was modified.
+    public boolean clearLore(@NotNull ItemStack item) {
+        // Reads the lore component in place, so clean stacks never clone their meta
+        if (!item.hasItemMeta() || !item.hasData(DataComponentTypes.LORE)) return false;
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return false;
+        List<Component> lore = meta.lore();
+        if (lore == null || lore.isEmpty()) return false;
+        List<Component> cleaned = new ArrayList<>(lore);
+        boolean removed = cleaned.removeIf(c -> {
+            String p = plain(c);
+            return p.startsWith(WEIGHT_PREFIX) || p.startsWith(EFFECTIVE_PREFIX);
+        });
+        if (!removed) return false;
+        meta.lore(cleaned);
+        item.setItemMeta(meta);
+        return true;
+    }
+
+    private static int quantize(double weight) {
+        return (int) Math.max(0, Math.min(QUANT_MAX, Math.round(weight * 10.0)));
+    }
+
+    private static long stamp(int generation, int base, int effective) {
+        return ((long) (generation & 0xFFFF) << 48) | ((long) base << 24) | effective;
+    }
+
+    private static Component buildLine(String format, String placeholder, int tenths) {
+        String text = format.replace(placeholder, String.format("%.1f", tenths / 10.0));
+        NamedTextColor color = placeholder.equals("{weight}") ? NamedTextColor.GRAY : NamedTextColor.AQUA;
+        return Component.text(text)
+                .color(color)
+                .decoration(TextDecoration.ITALIC, true);
+    }
+
+    private static int findLine(@NotNull List<Component> lore, @NotNull String prefix) {
+        for (int i = 0; i < lore.size(); i++)
+            if (plain(lore.get(i)).startsWith(prefix)) return i;
+        return -1;
+    }
+
+    private static String plain(@NotNull Component c) {
+        return PlainTextComponentSerializer.plainText().serialize(c);
+    }
+}
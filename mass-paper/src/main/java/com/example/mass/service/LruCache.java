@@ -0,0 +1,24 @@
+package com.example.mass.service;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Access-ordered map that evicts its least recently used entry past a fixed size
+final class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+
+    LruCache(int capacity) {
+        super(16, 0.75f, true);
+        this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > capacity;
+    }
+}
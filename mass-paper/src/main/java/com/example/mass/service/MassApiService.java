@@ -0,0 +1,43 @@
+package com.example.mass.service;
+
+import com.example.mass.api.EncumbranceSnapshot;
+import com.example.mass.api.MassAPI;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Written by EncumbranceService on the main thread, read from anywhere. Snapshots are
+// immutable, so a reader always sees one complete update.
+public final class MassApiService implements MassAPI {
+
+    private final Map<UUID, EncumbranceSnapshot>  snapshots = new ConcurrentHashMap<>();
+    private final Collection<EncumbranceSnapshot> view      = Collections.unmodifiableCollection(snapshots.values());
+
+    @Override
+    public @Nullable EncumbranceSnapshot snapshot(@NotNull UUID player) {
+        return snapshots.get(player);
+    }
+
+    @Override
+    public @NotNull Collection<EncumbranceSnapshot> snapshots() {
+        return view;
+    }
+
+    // Returns the snapshot it replaced
+    @Nullable EncumbranceSnapshot publish(@NotNull EncumbranceSnapshot snapshot) {
+        return snapshots.put(snapshot.player(), snapshot);
+    }
+
+    void remove(@NotNull UUID player) {
+        snapshots.remove(player);
+    }
+
+    public void clear() {
+        snapshots.clear();
+    }
+}
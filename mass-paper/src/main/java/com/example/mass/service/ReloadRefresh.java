@@ -0,0 +1,56 @@
+package com.example.mass.service;
+
+import com.example.mass.MassPlugin;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+// Re-renders lore and re-queues penalties for the players a reload affected, a few players
+// per tick within performance.reload_budget_ms instead of all of them in one tick.
+public final class ReloadRefresh extends BukkitRunnable {
+
+    private final MassPlugin         plugin;
+    private final LoreService        lore;
+    private final EncumbranceService encumbrance;
+    // Slots to refresh per player, in queue order; see ConfigDiff.affectedSlots
+    private final Map<UUID, Long>    remaining;
+
+    public ReloadRefresh(@NotNull MassPlugin plugin, @NotNull LoreService lore,
+                         @NotNull EncumbranceService encumbrance,
+                         @NotNull Map<UUID, Long> slots) {
+        this.plugin      = plugin;
+        this.lore        = lore;
+        this.encumbrance = encumbrance;
+        this.remaining   = slots;
+    }
+
+    @Override
+    public void run() {
+        long budget = plugin.massConfig().reloadBudgetMs * 1_000_000L;
+        long start  = System.nanoTime();
+        Iterator<Map.Entry<UUID, Long>> it = remaining.entrySet().iterator();
+        // At least one player per tick, however small the budget
+        do {
+            if (!it.hasNext()) break;
+            Map.Entry<UUID, Long> next = it.next();
+            UUID id   = next.getKey();
+            long mask = next.getValue();
+            it.remove();
+            Player player = plugin.getServer().getPlayer(id);
+            if (player == null) continue;
+            lore.refreshInventory(player.getInventory(), mask, encumbrance.profile(player));
+            encumbrance.scheduleUpdate(player, mask);
+        } while (System.nanoTime() - start < budget);
+
+        if (remaining.isEmpty()) cancel();
+    }
+
+    // Players not yet refreshed, with their slot masks
+    public @NotNull Map<UUID, Long> pending() {
+        return remaining;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.mass.service;
+
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.datacomponent.item.ItemEnchantments;
+import io.papermc.paper.datacomponent.item.PotionContents;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Scales an item's configured weight (never a PDC override) by its state: damage, enchantments and potion effects.
+// The result is memoized by the components it depends on, so repeated identical stacks cost
+// a few component reads and one hash lookup.
+@SuppressWarnings("UnstableApiUsage")
+final class StateWeights {
+
+    private final double damagedMultiplier;
+    private final double perEnchantment;
+    private final double perPotionEffect;
+    private final LruCache<Key, Double> memo;
+
+    StateWeights(double damagedMultiplier, double perEnchantment, double perPotionEffect, int cacheSize) {
+        this.damagedMultiplier = damagedMultiplier;
+        this.perEnchantment    = perEnchantment;
+        this.perPotionEffect   = perPotionEffect;
+        this.memo              = new LruCache<>(cacheSize);
+    }
+
+    // Only called for stacks with a component patch; plain stacks are always in their default state.
+    double apply(@NotNull ItemStack item, @NotNull Material type, double weight) {
+        int damage = 0, maxDamage = 0;
+        if (damagedMultiplier != 1.0 && type.getMaxDurability() > 0) {
+            Integer d = item.getData(DataComponentTypes.DAMAGE);
+            Integer m = item.getData(DataComponentTypes.MAX_DAMAGE);
+            damage    = d != null ? d : 0;
+            maxDamage = m != null ? m : 0;
+        }
+        ItemEnchantments enchantments = perEnchantment != 0.0 ? enchantments(item, type) : null;
+        PotionContents   potion       = perPotionEffect != 0.0 ? item.getData(DataComponentTypes.POTION_CONTENTS) : null;
+        if (damage == 0 && enchantments == null && potion == null) return weight;
+
+        Key key = new Key(type.ordinal(), damage, maxDamage, enchantments, potion);
+        Double cached = memo.get(key);
+        if (cached != null) return cached;
+
+        double result = weight;
+        if (damage > 0 && maxDamage > 0) {
+            double ratio = Math.min(1.0, damage / (double) maxDamage);
+            result *= 1.0 + (damagedMultiplier - 1.0) * ratio;
+        }
+        if (enchantments != null) result += perEnchantment * enchantments.enchantments().size();
+        if (potion != null)       result += perPotionEffect * effectCount(potion);
+        memo.put(key, result);
+        return result;
+    }
+
+    // Whether apply could change this stack's weight, without computing or memoizing it
+    boolean scales(@NotNull ItemStack item, @NotNull Material type) {
+        if (damagedMultiplier != 1.0 && type.getMaxDurability() > 0) {
+            Integer d = item.getData(DataComponentTypes.DAMAGE);
+            if (d != null && d > 0) return true;
+        }
+        if (perEnchantment != 0.0) {
+            ItemEnchantments enchantments = enchantments(item, type);
+            if (enchantments != null && !enchantments.enchantments().isEmpty()) return true;
+        }
+        return perPotionEffect != 0.0 && item.getData(DataComponentTypes.POTION_CONTENTS) != null;
+    }
+
+    private static @Nullable ItemEnchantments enchantments(ItemStack item, Material type) {
+        return type == Material.ENCHANTED_BOOK
+                ? item.getData(DataComponentTypes.STORED_ENCHANTMENTS)
+                : item.getData(DataComponentTypes.ENCHANTMENTS);
+    }
+
+    private static int effectCount(PotionContents potion) {
+        PotionType base = potion.potion();
+        return (base != null ? base.getPotionEffects().size() : 0) + potion.customEffects().size();
+    }
+
+    // The configured weight follows from the type within one profile. WeightService keeps one
+    // instance per profile and a reload builds fresh ones.
+    private record Key(int type, int damage, int maxDamage,
+                       @Nullable ItemEnchantments enchantments, @Nullable PotionContents potion) {}
+}
@@ -0,0 +1,281 @@
+package com.example.mass.service;
+
+import com.example.mass.config.MassConfig;
+import com.example.mass.config.ScopeMode;
+import com.example.mass.config.WorldProfile;
+import com.example.mass.jfr.WeightComputeEvent;
+import com.example.mass.trace.TraceBuffer;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Per-player running weight total. Each tracked slot keeps its last contribution, so an
+// inventory change only re-reads the slots named in its mask instead of rescanning everything.
+// Slot indices follow PlayerInventory: 0-35 storage, 36-39 armour (boots → helmet), 40 offhand.
+public final class WeightLedger {
+
+    public static final int  OFFHAND_SLOT = 40;
+    public static final int  CARGO_SLOT   = 41;
+    private static final int SLOT_COUNT   = 42;
+
+    public static final long STORAGE_MASK = (1L << 36) - 1;
+    public static final long HOTBAR_MASK  = (1L << 9) - 1;
+    public static final long ARMOR_MASK   = 0xFL << 36;
+    public static final long OFFHAND_MASK = 1L << OFFHAND_SLOT;
+    public static final long CARGO_MASK   = 1L << CARGO_SLOT;
+    public static final long PLAYER_MASK  = STORAGE_MASK | ARMOR_MASK | OFFHAND_MASK;
+    public static final long ALL_MASK     = PLAYER_MASK | CARGO_MASK;
+
+    private static final double DRIFT_EPSILON = 1e-6;
+
+    private final WeightService weightService;
+    private final TraceBuffer   trace;
+    private       ScopeMode     scope = ScopeMode.EVERYTHING;
+    private       MassConfig    config;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    // Reverse index: players with at least one tracked slot holding each material, as of
+    // their last refresh. Only touched when a slot's type changes, not on count changes.
+    private final Map<Material, Set<UUID>> holders = new EnumMap<>(Material.class);
+
+    public WeightLedger(@NotNull WeightService weightService, @NotNull TraceBuffer trace) {
+        this.weightService = weightService;
+        this.trace         = trace;
+    }
+
+    // Pending slots outside the scope are zeroed on the next refresh without being read
+    public void setScope(@NotNull ScopeMode scope) {
+        this.scope = scope;
+    }
+
+    // Moves every tracked player to the same profile in the new config. If the profile
+    // definitions changed, profiles are resolved again and every slot is re-read.
+    public void setProfiles(@NotNull MassConfig config) {
+        boolean keep = this.config != null && this.config.sameProfiles(config);
+        this.config = config;
+        for (Entry entry : entries.values()) {
+            if (entry.profile == null) continue;
+            if (keep) {
+                entry.profile = config.profiles.get(entry.profile.index());
+            } else {
+                entry.profile = null;
+                entry.pending = ALL_MASK;
+            }
+        }
+    }
+
+    public @NotNull WorldProfile profile(@NotNull Player player) {
+        return profile(entry(player.getUniqueId()), player);
+    }
+
+    // The only world lookup; everything after reads the profile stored on the entry
+    public void changeWorld(@NotNull Player player) {
+        Entry entry = entry(player.getUniqueId());
+        WorldProfile profile = config.profileFor(player.getWorld());
+        if (entry.profile == profile) return;
+        entry.profile = profile;
+        entry.pending = ALL_MASK;
+    }
+
+    public static long slotBit(int slot) {
+        return slot >= 0 && slot < SLOT_COUNT ? 1L << slot : 0L;
+    }
+
+    public static long handMask(@NotNull Player player, @NotNull EquipmentSlot hand) {
+        return hand == EquipmentSlot.OFF_HAND
+                ? OFFHAND_MASK
+                : slotBit(player.getInventory().getHeldItemSlot());
+    }
+
+    public static long armorBit(@NotNull EquipmentSlot slot) {
+        return switch (slot) {
+            case FEET  -> slotBit(36);
+            case LEGS  -> slotBit(37);
+            case CHEST -> slotBit(38);
+            case HEAD  -> slotBit(39);
+            default    -> 0L;
+        };
+    }
+
+    // Queues slots for re-reading on the next refresh. Nothing is read here, because most
+    // events fire before the server has actually applied the inventory change.
+    public void mark(@NotNull Player player, long mask) {
+        entry(player.getUniqueId()).pending |= mask;
+    }
+
+    // Re-reads every pending slot and returns the updated total.
+    public double refresh(@NotNull Player player) {
+        UUID  id    = player.getUniqueId();
+        Entry entry = entry(id);
+        long pending = entry.pending;
+        entry.seeded = true;
+        if (pending == 0) return entry.total;
+        entry.pending = 0;
+
+        WeightComputeEvent event = new WeightComputeEvent();
+        event.begin();
+        int scanned = Long.bitCount(pending);
+
+        // Out-of-scope slots are zeroed without being read; slotsHolding reports them as unread
+        long inScope = scope.mask(player);
+        for (long out = pending & ~inScope; out != 0; out &= out - 1) {
+            int slot = Long.numberOfTrailingZeros(out);
+            entry.total -= entry.slots[slot];
+            entry.slots[slot] = 0.0;
+            index(id, entry, slot, null);
+        }
+        entry.unread = (entry.unread | (pending & ~inScope)) & ~inScope;
+        pending &= inScope;
+
+        PlayerInventory inv = player.getInventory();
+        WorldProfile profile = profile(entry, player);
+        trace.enter(id);
+        try {
+            while (pending != 0) {
+                int slot = Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1;
+
+                double weight;
+                if (slot == CARGO_SLOT) {
+                    weight = weightService.cargoWeight(player, profile);
+                } else {
+                    ItemStack item = inv.getItem(slot);
+                    weight = weightService.slotWeight(item, slot, profile);
+                    index(id, entry, slot, item == null || item.getType() == Material.AIR ? null : item.getType());
+                }
+                entry.total += weight - entry.slots[slot];
+                entry.slots[slot] = weight;
+            }
+        } finally {
+            trace.exit();
+        }
+
+        if (event.shouldCommit()) {
+            event.player       = player.getName();
+            event.slotsScanned = scanned;
+            event.totalWeight  = entry.total;
+            event.commit();
+        }
+        return entry.total;
+    }
+
+    // O(1) read of the last refreshed total. Untracked players are seeded with a full read.
+    public double total(@NotNull Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry == null || !entry.seeded) return refresh(player);
+        return entry.total;
+    }
+
+    // Sum of the last refreshed contributions of the slots in the mask; reads no items
+    public double sum(@NotNull Player player, long mask) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry == null) return 0.0;
+        double sum = 0.0;
+        for (long m = mask; m != 0; m &= m - 1) sum += entry.slots[Long.numberOfTrailingZeros(m)];
+        return sum;
+    }
+
+    // Compares the ledger against a full scan and resets the entry if they disagree.
+    public boolean verify(@NotNull Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry == null || entry.pending != 0) return false;
+
+        double scanned;
+        trace.enter(player.getUniqueId());
+        try {
+            scanned = weightService.computeTotalWeight(player, profile(entry, player));
+        } finally {
+            trace.exit();
+        }
+        if (Math.abs(scanned - entry.total) <= DRIFT_EPSILON) return false;
+
+        entry.pending = ALL_MASK;
+        refresh(player);
+        return true;
+    }
+
+    public void remove(@NotNull Player player) {
+        UUID  id    = player.getUniqueId();
+        Entry entry = entries.remove(id);
+        if (entry == null) return;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) index(id, entry, slot, null);
+    }
+
+    // Slots of each tracked player that hold one of the given materials (by ordinal). Chest
+    // boat cargo isn't indexed by material, so any non-empty cargo is included as well, and
+    // so are pending and out-of-scope slots, whose material the ledger hasn't read.
+    public @NotNull Map<UUID, Long> slotsHolding(@NotNull BitSet materials) {
+        Map<UUID, Long> masks = new HashMap<>();
+        if (materials.isEmpty()) return masks;
+        for (Map.Entry<Material, Set<UUID>> held : holders.entrySet()) {
+            Material type = held.getKey();
+            if (!materials.get(type.ordinal())) continue;
+            for (UUID id : held.getValue()) {
+                Material[] types = entries.get(id).types;
+                long mask = 0L;
+                for (int slot = 0; slot < CARGO_SLOT; slot++)
+                    if (types[slot] == type) mask |= 1L << slot;
+                masks.merge(id, mask, (a, b) -> a | b);
+            }
+        }
+        for (Map.Entry<UUID, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            long mask = (entry.pending | entry.unread) & PLAYER_MASK;
+            if (entry.slots[CARGO_SLOT] != 0.0) mask |= CARGO_MASK;
+            if (mask != 0L) masks.merge(e.getKey(), mask, (a, b) -> a | b);
+        }
+        return masks;
+    }
+
+    private WorldProfile profile(Entry entry, Player player) {
+        if (entry.profile == null) entry.profile = config.profileFor(player.getWorld());
+        return entry.profile;
+    }
+
+    private void index(UUID id, Entry entry, int slot, @Nullable Material type) {
+        Material old = entry.types[slot];
+        if (old == type) return;
+        entry.types[slot] = type;
+        if (old != null && !entry.holds(old)) {
+            Set<UUID> ids = holders.get(old);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) holders.remove(old);
+        }
+        if (type != null) holders.computeIfAbsent(type, t -> new HashSet<>()).add(id);
+    }
+
+    private Entry entry(UUID id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(id, entry);
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        final double[]   slots = new double[SLOT_COUNT];
+        final Material[] types = new Material[SLOT_COUNT];
+        WorldProfile profile;
+        double  total;
+        long    pending = ALL_MASK;
+        // Slots zeroed as out of scope, never read since
+        long    unread;
+        boolean seeded;
+
+        boolean holds(Material type) {
+            for (Material t : types) if (t == type) return true;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.mass.service;
+
+import com.example.mass.MassPlugin;
+import com.example.mass.config.MassConfig;
+import com.example.mass.config.WorldProfile;
+import com.example.mass.core.WeightEngine;
+import com.example.mass.enchant.LighteningEnchant;
+import com.example.mass.metrics.MassMetrics;
+import com.example.mass.trace.TraceBuffer;
+import com.example.mass.trace.TraceKind;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.ChestBoat;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class WeightService {
+
+    public static final NamespacedKey PDC_WEIGHT = new NamespacedKey("mass", "weight");
+
+    private final MassPlugin         plugin;
+    private       MassConfig         config;
+    private final MassMetrics        metrics;
+    private final TraceBuffer        trace;
+    // Indexed by profile: memoized contents and state weights depend on the profile's table
+    private       ContainerWeights[] containers;
+    private       StateWeights[]     states;
+
+    public WeightService(@NotNull MassPlugin plugin) {
+        this.plugin     = plugin;
+        this.config     = plugin.massConfig();
+        this.metrics    = plugin.metrics();
+        this.trace      = plugin.trace();
+        this.containers = containerWeights();
+        this.states     = stateWeights();
+    }
+
+    public void reloadConfig() {
+        this.config     = plugin.massConfig();
+        this.containers = containerWeights();
+        this.states     = stateWeights();
+    }
+
+    private ContainerWeights @Nullable [] containerWeights() {
+        if (!config.containersEnabled) return null;
+        ContainerWeights[] perProfile = new ContainerWeights[config.profiles.size()];
+        for (WorldProfile profile : config.profiles) {
+            perProfile[profile.index()] = new ContainerWeights(this, profile,
+                    config.containersMaxDepth, config.containersCacheSize);
+        }
+        return perProfile;
+    }
+
+    private StateWeights @Nullable [] stateWeights() {
+        if (!config.stateEnabled) return null;
+        StateWeights[] perProfile = new StateWeights[config.profiles.size()];
+        for (int i = 0; i < perProfile.length; i++) {
+            perProfile[i] = new StateWeights(config.stateDamagedMultiplier, config.statePerEnchantment,
+                                             config.statePerPotionEffect, config.stateCacheSize);
+        }
+        return perProfile;
+    }
+
+    // Weight of one item under the global profile, including anything stored inside it
+    public double getBaseWeight(@NotNull ItemStack item) {
+        return baseWeight(item, 0, config.defaultProfile);
+    }
+
+    public double getBaseWeight(@NotNull ItemStack item, @NotNull WorldProfile profile) {
+        return baseWeight(item, 0, profile);
+    }
+
+    double baseWeight(@NotNull ItemStack item, int depth, @NotNull WorldProfile profile) {
+        Material type = item.getType();
+        if (type == Material.AIR) return 0.0;
+
+        // hasItemMeta and the PDC view read the stack's components in place; getItemMeta
+        // would clone the whole meta just to look for one key. Plain stacks skip it entirely,
+        // which also covers empty shulker boxes and bundles.
+        if (!item.hasItemMeta()) return configWeight(type, profile);
+
+        Double cached = item.getPersistentDataContainer().get(PDC_WEIGHT, PersistentDataType.DOUBLE);
+        double weight;
+        if (cached != null) {
+            metrics.pdcLookups.increment();
+            trace.lookup(TraceKind.WEIGHT_PDC, type.ordinal(), cached);
+            weight = cached;
+        } else {
+            weight = configWeight(type, profile);
+            StateWeights[] rules = states;
+            if (rules != null) weight = rules[profile.index()].apply(item, type, weight);
+        }
+        ContainerWeights[] nested = containers;
+        return nested != null ? weight + nested[profile.index()].contentsWeight(item, depth) : weight;
+    }
+
+    // True when the weight follows from the type alone: no PDC override and nothing the
+    // state rules scale. Callers may then cache weights by material.
+    public boolean weighsByType(@NotNull ItemStack item) {
+        if (!item.hasItemMeta()) return true;
+        if (item.getPersistentDataContainer().has(PDC_WEIGHT)) return false;
+        StateWeights[] rules = states;
+        return rules == null || !rules[0].scales(item, item.getType());
+    }
+
+    private double configWeight(@NotNull Material type, @NotNull WorldProfile profile) {
+        double weight = profile.engine().weightOf(type.ordinal());
+        metrics.configLookups.increment();
+        trace.lookup(TraceKind.WEIGHT_CONFIG, type.ordinal(), weight);
+        return weight;
+    }
+
+    public double getEffectiveWeight(@NotNull ItemStack item) {
+        return getEffectiveWeight(item, config.defaultProfile);
+    }
+
+    public double getEffectiveWeight(@NotNull ItemStack item, @NotNull WorldProfile profile) {
+        double base = getBaseWeight(item, profile);
+        int id = item.getType().ordinal();
+        WeightEngine engine = profile.engine();
+        if (!engine.isArmour(id)) return base;
+        return engine.effectiveWeight(id, base, LighteningEnchant.levelOf(item));
+    }
+
+    public void setWeight(@NotNull ItemStack item, double weight) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return;
+        meta.getPersistentDataContainer().set(PDC_WEIGHT, PersistentDataType.DOUBLE, weight);
+        item.setItemMeta(meta);
+    }
+
+    public void clearWeight(@NotNull ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return;
+        meta.getPersistentDataContainer().remove(PDC_WEIGHT);
+        item.setItemMeta(meta);
+    }
+
+    // Everything in the configured scope under the global profile; see the profile overload
+    public double computeTotalWeight(@NotNull Player player) {
+        return computeTotalWeight(player, config.defaultProfile);
+    }
+
+    // Everything in the configured scope, read slot by slot; slots outside it are never touched
+    public double computeTotalWeight(@NotNull Player player, @NotNull WorldProfile profile) {
+        long scope = config.scopeMode.mask(player);
+        PlayerInventory inv = player.getInventory();
+        double total = 0;
+        for (long m = scope & WeightLedger.PLAYER_MASK; m != 0; m &= m - 1) {
+            total += slotWeight(inv, Long.numberOfTrailingZeros(m), profile);
+        }
+        // Chest boat cargo counts against the rider, same as a donkey chest
+        if ((scope & WeightLedger.CARGO_MASK) != 0) total += cargoWeight(player, profile);
+        return total;
+    }
+
+    public double computeArmorWeight(@NotNull Player player, @NotNull WorldProfile profile) {
+        return computeSlots(player, WeightLedger.ARMOR_MASK, profile);
+    }
+
+    public double computeHandWeight(@NotNull Player player, @NotNull WorldProfile profile) {
+        return computeSlots(player, WeightLedger.slotBit(player.getInventory().getHeldItemSlot())
+                                    | WeightLedger.OFFHAND_MASK, profile);
+    }
+
+    public double computeInventoryWeight(@NotNull Player player, @NotNull WorldProfile profile) {
+        return computeSlots(player, WeightLedger.STORAGE_MASK, profile);
+    }
+
+    private double computeSlots(@NotNull Player player, long slots, @NotNull WorldProfile profile) {
+        PlayerInventory inv = player.getInventory();
+        double total = 0;
+        for (long m = slots & config.scopeMode.mask(player); m != 0; m &= m - 1) {
+            total += slotWeight(inv, Long.numberOfTrailingZeros(m), profile);
+        }
+        return total;
+    }
+
+    // Slot indices follow WeightLedger: armour slots count their effective (Lightening) weight
+    public double slotWeight(@NotNull PlayerInventory inv, int slot, @NotNull WorldProfile profile) {
+        return slotWeight(inv.getItem(slot), slot, profile);
+    }
+
+    public double slotWeight(@Nullable ItemStack item, int slot, @NotNull WorldProfile profile) {
+        if (item == null || item.getType() == Material.AIR) return 0.0;
+        double unit = (slot >= 36 && slot < WeightLedger.OFFHAND_SLOT)
+                ? getEffectiveWeight(item, profile)
+                : getBaseWeight(item, profile);
+        return unit * item.getAmount();
+    }
+
+    public double cargoWeight(@NotNull Player player, @NotNull WorldProfile profile) {
+        if (!(player.getVehicle() instanceof ChestBoat chestBoat)) return 0.0;
+        double total = 0;
+        for (ItemStack item : chestBoat.getInventory().getContents()) {
+            if (item != null && item.getType() != Material.AIR)
+                total += getBaseWeight(item, profile) * item.getAmount();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.mass.trace;
+
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fixed-size ring of primitive trace records. Writers claim a slot with one atomic increment
+// and publish it through a per-slot sequence number, so there is no lock and no allocation per
+// record; with tracing off every call returns after a single field read.
+public final class TraceBuffer {
+
+    private static final long NO_POSITION = Long.MIN_VALUE;
+
+    private volatile boolean enabled;
+    private volatile int     sampleRate = 1;
+    private volatile @Nullable UUID filter;
+    private volatile Ring    ring;
+
+    // Player whose inventory is being weighed, attributed to lookups that have no player of their own
+    private @Nullable UUID context;
+    private int sampleCounter;
+
+    public TraceBuffer(int capacity) {
+        this.ring = new Ring(capacity);
+    }
+
+    public boolean enabled()  { return enabled; }
+    public int sampleRate()   { return sampleRate; }
+    public int capacity()     { return ring.mask + 1; }
+    public @Nullable UUID filter() { return filter; }
+
+    public void setEnabled(boolean enabled)   { this.enabled = enabled; }
+    public void setSampleRate(int sampleRate) { this.sampleRate = Math.max(1, sampleRate); }
+    public void setFilter(@Nullable UUID filter) { this.filter = filter; }
+
+    public void resize(int capacity) {
+        if (capacity != capacity()) ring = new Ring(capacity);
+    }
+
+    public void clear() {
+        ring = new Ring(capacity());
+    }
+
+    public void enter(@NotNull UUID player) { context = player; }
+    public void exit()                      { context = null; }
+
+    public void lookup(@NotNull TraceKind kind, int materialId, double weight) {
+        if (!enabled) return;
+        record(kind, context, materialId, 0, weight, NO_POSITION);
+    }
+
+    public void record(@NotNull TraceKind kind, @Nullable UUID player, int a, int b, double value) {
+        if (!enabled) return;
+        record(kind, player, a, b, value, NO_POSITION);
+    }
+
+    public void record(@NotNull TraceKind kind, @Nullable UUID player, int a, @NotNull Location at) {
+        if (!enabled) return;
+        record(kind, player, a, 0, 0.0, pack(at.getBlockX(), at.getBlockY(), at.getBlockZ()));
+    }
+
+    private void record(TraceKind kind, @Nullable UUID player, int a, int b, double value, long pos) {
+        UUID only = filter;
+        if (only != null && !only.equals(player)) return;
+        int rate = sampleRate;
+        if (rate > 1 && ++sampleCounter % rate != 0) return;
+
+        Ring r = ring;
+        long seq = r.cursor.getAndIncrement();
+        int  i   = (int) (seq & r.mask);
+        r.seq.set(i, -1L);
+        r.time[i]  = System.currentTimeMillis();
+        r.kind[i]  = (byte) kind.ordinal();
+        r.msb[i]   = player != null ? player.getMostSignificantBits()  : 0L;
+        r.lsb[i]   = player != null ? player.getLeastSignificantBits() : 0L;
+        r.a[i]     = a;
+        r.b[i]     = b;
+        r.value[i] = value;
+        r.pos[i]   = pos;
+        r.seq.lazySet(i, seq);
+    }
+
+    // Oldest first. Slots being overwritten while the snapshot runs are skipped.
+    public @NotNull List<TraceRecord> snapshot() {
+        Ring r = ring;
+        long end   = r.cursor.get();
+        long start = Math.max(0L, end - (r.mask + 1));
+        List<TraceRecord> out = new ArrayList<>((int) (end - start));
+        for (long s = start; s < end; s++) {
+            int i = (int) (s & r.mask);
+            if (r.seq.get(i) != s) continue;
+            long msb = r.msb[i], lsb = r.lsb[i];
+            TraceRecord rec = new TraceRecord(r.time[i], TraceKind.of(r.kind[i]),
+                    msb == 0L && lsb == 0L ? null : new UUID(msb, lsb),
+                    r.a[i], r.b[i], r.value[i],
+                    r.pos[i] == NO_POSITION ? null : unpack(r.pos[i]));
+            if (r.seq.get(i) == s) out.add(rec);
+        }
+        return out;
+    }
+
+    // Same layout as vanilla BlockPos.asLong
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (long) y & 0xFFFL;
+    }
+
+    private static int[] unpack(long pos) {
+        return new int[] { (int) (pos >> 38), (int) (pos << 52 >> 52), (int) (pos << 26 >> 38) };
+    }
+
+    private static final class Ring {
+        final int            mask;
+        final AtomicLong     cursor = new AtomicLong();
+        final AtomicLongArray seq;
+        final long[]   time;
+        final byte[]   kind;
+        final long[]   msb;
+        final long[]   lsb;
+        final int[]    a;
+        final int[]    b;
+        final double[] value;
+        final long[]   pos;
+
+        Ring(int capacity) {
+            int size = Integer.highestOneBit(Math.max(16, Math.min(1 << 20, capacity) * 2 - 1));
+            mask  = size - 1;
+            seq   = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) seq.set(i, -1L);
+            time  = new long[size];
+            kind  = new byte[size];
+            msb   = new long[size];
+            lsb   = new long[size];
+            a     = new int[size];
+            b     = new int[size];
+            value = new double[size];
+            pos   = new long[size];
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.mass.trace;
+
+// What a trace record describes, and how its a/b/value fields are read when dumped
+public enum TraceKind {
+    WEIGHT_PDC,      // a = material id, value = weight
+    WEIGHT_CONFIG,   // a = material id, value = weight
+    PENALTY_CHANGE,  // a = old tier, b = new tier, value = total weight
+    LEDGER_RESYNC,   // value = corrected total weight
+    LOOT_INJECT,     // a = Lightening level, pos = block position
+    TRADE_INJECT;    // a = Lightening level, pos = block position
+
+    private static final TraceKind[] VALUES = values();
+
+    static TraceKind of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
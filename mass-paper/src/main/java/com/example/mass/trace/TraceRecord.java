@@ -0,0 +1,11 @@
+package com.example.mass.trace;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+// Copied out of the ring only when dumping
+public record TraceRecord(long timeMillis, @NotNull TraceKind kind, @Nullable UUID player,
+                          int a, int b, double value, @Nullable int[] position) {
+}
@@ -0,0 +1,60 @@
+package com.example.mass.trace;
+
+import com.example.mass.config.MassConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+// Formats a snapshot as one line per record. Runs off the main thread, so player names are
+// resolved by the caller beforehand.
+public final class TraceWriter {
+
+    private static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private TraceWriter() {}
+
+    public static void write(@NotNull Path file, @NotNull List<TraceRecord> records,
+                             @NotNull Map<UUID, String> names) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (TraceRecord rec : records) {
+                out.write(TIME.format(Instant.ofEpochMilli(rec.timeMillis())));
+                out.write(' ');
+                out.write(String.format(Locale.ROOT, "%-14s", rec.kind()));
+                out.write(' ');
+                out.write(rec.player() == null ? "-" : names.getOrDefault(rec.player(), rec.player().toString()));
+                out.write(' ');
+                out.write(describe(rec));
+                out.newLine();
+            }
+        }
+    }
+
+    private static String describe(TraceRecord rec) {
+        return switch (rec.kind()) {
+            case WEIGHT_PDC, WEIGHT_CONFIG -> String.format(Locale.ROOT, "%s → %.3f kg",
+                    MassConfig.MATERIAL_KEYS.name(rec.a()), rec.value());
+            case PENALTY_CHANGE -> String.format(Locale.ROOT, "tier %d → %d at %.1f kg",
+                    rec.a(), rec.b(), rec.value());
+            case LEDGER_RESYNC -> String.format(Locale.ROOT, "resynced to %.1f kg", rec.value());
+            case LOOT_INJECT, TRADE_INJECT -> "Lightening " + rec.a() + position(rec);
+        };
+    }
+
+    private static String position(TraceRecord rec) {
+        int[] p = rec.position();
+        return p == null ? "" : " at " + p[0] + "," + p[1] + "," + p[2];
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.mass.config;
+
+import com.example.mass.core.ItemKeys;
+import com.example.mass.core.LighteningTable;
+import com.example.mass.core.PenaltyTier;
+import com.example.mass.core.TierTable;
+import com.example.mass.core.WeightEngine;
+import com.example.mass.core.WeightTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CompiledCacheTest {
+
+    private static final ItemKeys KEYS    = new ItemKeys(new String[] {"STONE", "IRON_CHESTPLATE", "FEATHER"});
+    private static final byte[]   CONFIG  = "weights: {}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[]   DEFAULT = "penalties: {}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void savedEngineLoadsBack() {
+        CompiledCache cache  = cache();
+        byte[]        digest = CompiledCache.digest(CONFIG, DEFAULT, "1.0", KEYS);
+        WeightEngine  engine = engine();
+        cache.save(digest, engine);
+
+        WeightEngine read = cache.load(digest, KEYS);
+        assertNotNull(read);
+        assertEquals(engine.weights(),    read.weights());
+        assertEquals(engine.lightening(), read.lightening());
+        assertEquals(engine.tiers(),      read.tiers());
+        assertFalse(Files.exists(dir.resolve("config.compiled.tmp")));
+    }
+
+    @Test
+    void missingFileIsAMiss() {
+        assertNull(cache().load(CompiledCache.digest(CONFIG, DEFAULT, "1.0", KEYS), KEYS));
+    }
+
+    @Test
+    void changedInputsAreAMiss() {
+        CompiledCache cache = cache();
+        cache.save(CompiledCache.digest(CONFIG, DEFAULT, "1.0", KEYS), engine());
+        assertNull(cache.load(CompiledCache.digest(CONFIG, DEFAULT, "1.1", KEYS), KEYS));
+    }
+
+    @Test
+    void corruptFileIsAMiss() throws IOException {
+        byte[] digest = CompiledCache.digest(CONFIG, DEFAULT, "1.0", KEYS);
+        byte[] bytes  = Arrays.copyOf(digest, digest.length + 8);
+        Files.write(dir.resolve("config.compiled"), bytes);
+        assertNull(cache().load(digest, KEYS));
+
+        Files.write(dir.resolve("config.compiled"), new byte[] {1, 2, 3});
+        assertNull(cache().load(digest, KEYS));
+    }
+
+    @Test
+    void digestCoversEveryInput() {
+        byte[] base = CompiledCache.digest(CONFIG, DEFAULT, "1.0", KEYS);
+        assertArrayEquals(base, CompiledCache.digest(CONFIG.clone(), DEFAULT.clone(), "1.0", KEYS));
+
+        assertFalse(Arrays.equals(base, CompiledCache.digest("weights: {a: 1}".getBytes(StandardCharsets.UTF_8),
+                DEFAULT, "1.0", KEYS)));
+        assertFalse(Arrays.equals(base, CompiledCache.digest(CONFIG, new byte[0], "1.0", KEYS)));
+        assertFalse(Arrays.equals(base, CompiledCache.digest(CONFIG, DEFAULT, "1.1", KEYS)));
+        assertFalse(Arrays.equals(base, CompiledCache.digest(CONFIG, DEFAULT, "1.0",
+                new ItemKeys(new String[] {"STONE", "IRON_CHESTPLATE", "FEATHER", "DIRT"}))));
+    }
+
+    @Test
+    void adjacentInputsDoNotRunTogether() {
+        byte[] ab = {'a', 'b'};
+        byte[] c  = {'c'};
+        byte[] a  = {'a'};
+        byte[] bc = {'b', 'c'};
+        assertFalse(Arrays.equals(CompiledCache.digest(ab, c, "", KEYS), CompiledCache.digest(a, bc, "", KEYS)));
+    }
+
+    private CompiledCache cache() {
+        return new CompiledCache(dir.resolve("config.compiled"), Logger.getLogger("CompiledCacheTest"));
+    }
+
+    private static WeightEngine engine() {
+        return new WeightEngine(KEYS,
+                WeightTable.of(new double[] {1.5, 12.0, 0.01}),
+                new LighteningTable(Map.of(1, 0.1, 2, 0.2, 3, 0.35)),
+                new TierTable(List.of(
+                        new PenaltyTier(20.0, 1.0, 1.0),
+                        new PenaltyTier(1e9,  0.5, 0.0)), 0.5));
+    }
+}
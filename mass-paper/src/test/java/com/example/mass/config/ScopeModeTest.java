@@ -0,0 +1,60 @@
+package com.example.mass.config;
+
+import com.example.mass.service.WeightLedger;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.PlayerInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScopeModeTest {
+
+    private final Player          player    = mock(Player.class);
+    private final PlayerInventory inventory = mock(PlayerInventory.class);
+
+    @BeforeEach
+    void setUp() {
+        when(player.getInventory()).thenReturn(inventory);
+        when(inventory.getHeldItemSlot()).thenReturn(3);
+    }
+
+    @Test
+    void armorOnlyIsTheFourArmourSlots() {
+        assertEquals(WeightLedger.ARMOR_MASK, ScopeMode.ARMOR_ONLY.mask(player));
+        assertEquals(4, Long.bitCount(ScopeMode.ARMOR_ONLY.mask(player)));
+    }
+
+    @Test
+    void equippedFollowsTheHeldSlot() {
+        long base = WeightLedger.ARMOR_MASK | WeightLedger.OFFHAND_MASK;
+        assertEquals(base | 1L << 3, ScopeMode.EQUIPPED.mask(player));
+
+        when(inventory.getHeldItemSlot()).thenReturn(7);
+        assertEquals(base | 1L << 7, ScopeMode.EQUIPPED.mask(player));
+    }
+
+    @Test
+    void hotbarAndArmorLeavesTheRestOfStorage() {
+        long mask = ScopeMode.HOTBAR_AND_ARMOR.mask(player);
+        assertEquals(WeightLedger.HOTBAR_MASK | WeightLedger.ARMOR_MASK | WeightLedger.OFFHAND_MASK, mask);
+        assertEquals(0L, mask & WeightLedger.slotBit(9));
+        assertEquals(0L, mask & WeightLedger.CARGO_MASK);
+    }
+
+    @Test
+    void everythingIncludesCargo() {
+        assertEquals(WeightLedger.ALL_MASK, ScopeMode.EVERYTHING.mask(player));
+    }
+
+    @Test
+    void parseIgnoresCaseAndWhitespace() {
+        assertEquals(ScopeMode.EQUIPPED, ScopeMode.parse(" equipped "));
+        assertEquals(ScopeMode.HOTBAR_AND_ARMOR, ScopeMode.parse("Hotbar_And_Armor"));
+        assertNull(ScopeMode.parse("offhand"));
+        assertNull(ScopeMode.parse(null));
+    }
+}
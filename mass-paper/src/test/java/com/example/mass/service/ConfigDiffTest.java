@@ -0,0 +1,122 @@
+package com.example.mass.service;
+
+import com.example.mass.config.MassConfig;
+import org.bukkit.Material;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConfigDiffTest {
+
+    // Containers off, so a weight change reports exactly the materials that changed
+    private static final String BASE = """
+            weights:
+              containers:
+                enabled: false
+              overrides:
+                STONE: 1.0
+                DIRT: 0.5
+            penalties:
+              tiers:
+                - {max_weight: 10.0, speed_multiplier: 1.0, jump_multiplier: 1.0}
+                - {max_weight: 9999.0, speed_multiplier: 0.5, jump_multiplier: 0.0}
+            """;
+
+    @Test
+    void sameConfigChangesNothing() {
+        assertTrue(ConfigDiff.of(config(BASE), config(BASE)).isEmpty());
+    }
+
+    @Test
+    void weightOverrideReportsOnlyThatMaterial() {
+        ConfigDiff diff = ConfigDiff.of(config(BASE), config(BASE.replace("STONE: 1.0", "STONE: 2.0")));
+        assertFalse(diff.full);
+        assertFalse(diff.penalties);
+        assertEquals(bits(Material.STONE), diff.materials);
+    }
+
+    @Test
+    void tierChangeReRunsPenalties() {
+        ConfigDiff diff = ConfigDiff.of(config(BASE), config(BASE.replace("speed_multiplier: 0.5", "speed_multiplier: 0.4")));
+        assertFalse(diff.full);
+        assertTrue(diff.penalties);
+        assertTrue(diff.materials.isEmpty());
+    }
+
+    @Test
+    void elytraSettingsArePenaltyChanges() {
+        assertTrue(ConfigDiff.of(config(BASE), config(BASE + "vehicles: {elytra: {enabled: false}}")).penalties);
+        assertTrue(ConfigDiff.of(config(BASE), config(BASE + "vehicles: {elytra: {disable_above: 20.0}}")).penalties);
+    }
+
+    @Test
+    void scopeChangeRefreshesEverything() {
+        assertTrue(ConfigDiff.of(config(BASE), config(BASE + "scope: {mode: ARMOR_ONLY}")).full);
+    }
+
+    @Test
+    void loreLayoutChangeRefreshesEverything() {
+        assertTrue(ConfigDiff.of(config(BASE), config(BASE + "display: {lore: {weight_format: '{weight}kg'}}")).full);
+    }
+
+    @Test
+    void fullChangeRefreshesEverySlot() {
+        ConfigDiff diff = ConfigDiff.of(config(BASE), config(BASE + "scope: {mode: ARMOR_ONLY}"));
+        Player player = player();
+        assertEquals(Map.of(player.getUniqueId(), WeightLedger.ALL_MASK),
+                diff.affectedSlots(List.of(player), mock(EncumbranceService.class)));
+    }
+
+    @Test
+    void penaltyChangeReadsNoSlots() {
+        ConfigDiff diff = ConfigDiff.of(config(BASE), config(BASE + "penalties: {disable_sprint_above: 30.0}"));
+        Player player = player();
+        assertEquals(Map.of(player.getUniqueId(), 0L),
+                diff.affectedSlots(List.of(player), mock(EncumbranceService.class)));
+    }
+
+    @Test
+    void weightChangeRefreshesOnlyTheSlotsHoldingIt() {
+        ConfigDiff diff = ConfigDiff.of(config(BASE), config(BASE.replace("DIRT: 0.5", "DIRT: 0.6")));
+        UUID holder = UUID.randomUUID();
+        EncumbranceService encumbrance = mock(EncumbranceService.class);
+        when(encumbrance.slotsHolding(bits(Material.DIRT))).thenReturn(Map.of(holder, 1L << 5));
+
+        assertEquals(Map.of(holder, 1L << 5), diff.affectedSlots(List.of(player()), encumbrance));
+    }
+
+    private static MassConfig config(String yaml) {
+        YamlConfiguration cfg = new YamlConfiguration();
+        try {
+            cfg.loadFromString(yaml);
+        } catch (InvalidConfigurationException ex) {
+            throw new AssertionError(ex);
+        }
+        return new MassConfig(cfg, Logger.getLogger("ConfigDiffTest"));
+    }
+
+    private static Player player() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        return player;
+    }
+
+    private static BitSet bits(Material material) {
+        BitSet bits = new BitSet();
+        bits.set(material.ordinal());
+        return bits;
+    }
+}
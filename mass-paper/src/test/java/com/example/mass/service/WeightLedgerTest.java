@@ -0,0 +1,205 @@
+package com.example.mass.service;
+
+import com.example.mass.config.MassConfig;
+import com.example.mass.config.ScopeMode;
+import com.example.mass.config.WorldProfile;
+import com.example.mass.core.ItemKeys;
+import com.example.mass.core.LighteningTable;
+import com.example.mass.core.PenaltyTier;
+import com.example.mass.core.TierTable;
+import com.example.mass.core.WeightEngine;
+import com.example.mass.core.WeightTable;
+import com.example.mass.trace.TraceBuffer;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class WeightLedgerTest {
+
+    private final WeightService   weights   = mock(WeightService.class);
+    private final Player          player    = mock(Player.class);
+    private final PlayerInventory inventory = mock(PlayerInventory.class);
+    private final WorldProfile    profile   = profile();
+    private final WeightLedger    ledger    = new WeightLedger(weights, new TraceBuffer(16));
+
+    @BeforeEach
+    void setUp() {
+        MassConfig config = mock(MassConfig.class);
+        when(config.profileFor(any())).thenReturn(profile);
+        ledger.setProfiles(config);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getInventory()).thenReturn(inventory);
+
+        put(0,  Material.STONE,              2.0);
+        put(38, Material.DIAMOND_CHESTPLATE, 8.0);
+    }
+
+    @Test
+    void firstRefreshReadsEverySlot() {
+        assertEquals(10.0, ledger.refresh(player));
+        verify(inventory, times(41)).getItem(anyInt());
+        verify(weights).cargoWeight(player, profile);
+    }
+
+    @Test
+    void markedSlotsAreTheOnlyOnesReRead() {
+        ledger.refresh(player);
+        clearInvocations(inventory, weights);
+
+        put(0, Material.STONE, 5.0);
+        ledger.mark(player, WeightLedger.slotBit(0));
+        assertEquals(13.0, ledger.refresh(player));
+        verify(inventory).getItem(0);
+        verify(inventory, times(1)).getItem(anyInt());
+    }
+
+    @Test
+    void unmarkedChangesAreNotRead() {
+        ledger.refresh(player);
+        put(1, Material.STONE, 3.0);
+        assertEquals(10.0, ledger.refresh(player));
+    }
+
+    @Test
+    void totalReadsNothingOnceSeeded() {
+        ledger.refresh(player);
+        clearInvocations(inventory, weights);
+        assertEquals(10.0, ledger.total(player));
+        verifyNoInteractions(inventory, weights);
+    }
+
+    @Test
+    void totalSeedsAnUntrackedPlayer() {
+        assertEquals(10.0, ledger.total(player));
+    }
+
+    @Test
+    void sumAddsOnlyTheMaskedSlots() {
+        ledger.refresh(player);
+        assertEquals(8.0, ledger.sum(player, WeightLedger.ARMOR_MASK));
+        assertEquals(2.0, ledger.sum(player, WeightLedger.HOTBAR_MASK));
+    }
+
+    @Test
+    void verifyKeepsAMatchingLedger() {
+        ledger.refresh(player);
+        when(weights.computeTotalWeight(player, profile)).thenReturn(10.0);
+        assertFalse(ledger.verify(player));
+    }
+
+    @Test
+    void verifyRereadsEverythingAfterDrift() {
+        ledger.refresh(player);
+        put(1, Material.STONE, 3.0);
+        when(weights.computeTotalWeight(player, profile)).thenReturn(13.0);
+        assertTrue(ledger.verify(player));
+        assertEquals(13.0, ledger.total(player));
+    }
+
+    @Test
+    void outOfScopeSlotsAreNeverRead() {
+        ledger.setScope(ScopeMode.ARMOR_ONLY);
+        assertEquals(8.0, ledger.refresh(player));
+        verify(inventory, never()).getItem(0);
+        verify(weights, never()).cargoWeight(any(), any());
+    }
+
+    @Test
+    void narrowingTheScopeZeroesOutOfScopeSlots() {
+        ledger.refresh(player);
+        clearInvocations(inventory, weights);
+
+        ledger.setScope(ScopeMode.ARMOR_ONLY);
+        ledger.mark(player, WeightLedger.ALL_MASK);
+        assertEquals(8.0, ledger.refresh(player));
+        assertEquals(0.0, ledger.sum(player, WeightLedger.STORAGE_MASK));
+        verify(inventory, times(4)).getItem(anyInt());
+    }
+
+    @Test
+    void slotsHoldingFindsIndexedSlots() {
+        put(5, Material.STONE, 2.0);
+        ledger.refresh(player);
+        assertEquals(Map.of(player.getUniqueId(), 1L | 1L << 5), ledger.slotsHolding(bits(Material.STONE)));
+        assertEquals(Map.of(player.getUniqueId(), 1L << 38), ledger.slotsHolding(bits(Material.DIAMOND_CHESTPLATE)));
+        assertTrue(ledger.slotsHolding(new BitSet()).isEmpty());
+    }
+
+    @Test
+    void slotsHoldingIncludesSlotsTheLedgerHasNotRead() {
+        ledger.refresh(player);
+        ledger.mark(player, WeightLedger.slotBit(9));
+        assertEquals(Map.of(player.getUniqueId(), 1L | 1L << 9), ledger.slotsHolding(bits(Material.STONE)));
+
+        ledger.setScope(ScopeMode.ARMOR_ONLY);
+        ledger.mark(player, WeightLedger.ALL_MASK);
+        ledger.refresh(player);
+        assertEquals(Map.of(player.getUniqueId(), WeightLedger.STORAGE_MASK | WeightLedger.OFFHAND_MASK),
+                ledger.slotsHolding(bits(Material.STONE)));
+    }
+
+    @Test
+    void removedPlayersAreNotReported() {
+        ledger.refresh(player);
+        ledger.remove(player);
+        assertTrue(ledger.slotsHolding(bits(Material.STONE)).isEmpty());
+    }
+
+    @Test
+    void slotBitsStayInsideTheLedger() {
+        assertEquals(0L, WeightLedger.slotBit(-1));
+        assertEquals(0L, WeightLedger.slotBit(42));
+        assertEquals(WeightLedger.CARGO_MASK, WeightLedger.slotBit(WeightLedger.CARGO_SLOT));
+        assertEquals(1L << 39, WeightLedger.armorBit(EquipmentSlot.HEAD));
+        assertEquals(1L << 36, WeightLedger.armorBit(EquipmentSlot.FEET));
+    }
+
+    @Test
+    void handMaskFollowsTheHeldSlot() {
+        when(inventory.getHeldItemSlot()).thenReturn(4);
+        assertEquals(1L << 4, WeightLedger.handMask(player, EquipmentSlot.HAND));
+        assertEquals(WeightLedger.OFFHAND_MASK, WeightLedger.handMask(player, EquipmentSlot.OFF_HAND));
+    }
+
+    private void put(int slot, Material type, double weight) {
+        ItemStack item = mock(ItemStack.class);
+        when(item.getType()).thenReturn(type);
+        when(inventory.getItem(slot)).thenReturn(item);
+        when(weights.slotWeight(item, slot, profile)).thenReturn(weight);
+    }
+
+    private static BitSet bits(Material material) {
+        BitSet bits = new BitSet();
+        bits.set(material.ordinal());
+        return bits;
+    }
+
+    private static WorldProfile profile() {
+        WeightEngine engine = new WeightEngine(new ItemKeys(new String[0]), WeightTable.of(new double[0]),
+                LighteningTable.of(new double[0]), new TierTable(List.of(new PenaltyTier(9999.0, 1.0, 1.0)), 0.0));
+        return new WorldProfile("default", 0, Set.of(), Map.of(), engine, null);
+    }
+}